@@ -0,0 +1,169 @@
+package com.abd.demo.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result (-rf json) against the checked-in baseline and fails on regressions:
+ * - score: throughput below baseline, or time per operation above it, by more than the score threshold (%) and
+ *   by more than the two scores' errors combined, i.e. only when the confidence intervals do not overlap; a noisy
+ *   score cannot fail the check by chance
+ * - allocation: gc.alloc.rate.norm (from -prof gc) above baseline by more than the allocation
+ *   threshold (%) plus an absolute slack in bytes, so near-zero baselines do not flap
+ *
+ * Benchmarks are matched by name and parameters. Entries missing on either side are reported, not failed.
+ *
+ * Usage: BenchmarkComparison baseline.json result.json
+ * Thresholds come from the system properties bench.score.threshold, bench.allocation.threshold
+ * and bench.allocation.slack (defaults 10, 10 and 1).
+ */
+public final class BenchmarkComparison {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final double scoreThreshold;
+    private final double allocationThreshold;
+    private final double allocationSlack;
+
+    public BenchmarkComparison(double scoreThreshold, double allocationThreshold, double allocationSlack) {
+        this.scoreThreshold = scoreThreshold;
+        this.allocationThreshold = allocationThreshold;
+        this.allocationSlack = allocationSlack;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkComparison <baseline.json> <result.json>");
+        }
+        BenchmarkComparison comparison = new BenchmarkComparison(
+            Double.parseDouble(System.getProperty("bench.score.threshold", "10")),
+            Double.parseDouble(System.getProperty("bench.allocation.threshold", "10")),
+            Double.parseDouble(System.getProperty("bench.allocation.slack", "1")));
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> report = new ArrayList<>();
+        List<String> regressions = comparison.compare(
+            mapper.readTree(new File(args[0])), mapper.readTree(new File(args[1])), report);
+
+        report.forEach(System.out::println);
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " benchmark regression(s):"
+                + System.lineSeparator() + String.join(System.lineSeparator(), regressions));
+        }
+    }
+
+    /**
+     * Compares two JMH result arrays.
+     *
+     * @param baseline baseline results
+     * @param current current results
+     * @param report receives one line per compared benchmark
+     * @return descriptions of the regressions, empty when within thresholds
+     */
+    public List<String> compare(JsonNode baseline, JsonNode current, List<String> report) {
+        Map<String, JsonNode> baselineByKey = index(baseline);
+        Map<String, JsonNode> currentByKey = index(current);
+        List<String> regressions = new ArrayList<>();
+
+        for (Map.Entry<String, JsonNode> entry : currentByKey.entrySet()) {
+            String key = entry.getKey();
+            JsonNode before = baselineByKey.get(key);
+            if (before == null) {
+                report.add(key + ": no baseline");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+
+            double baseScore = before.path("primaryMetric").path("score").asDouble();
+            double baseError = scoreError(before);
+            double score = after.path("primaryMetric").path("score").asDouble();
+            double error = scoreError(after);
+            String unit = after.path("primaryMetric").path("scoreUnit").asText();
+            boolean throughput = THROUGHPUT_MODE.equals(after.path("mode").asText());
+            double change = percentChange(baseScore, score);
+            double worse = throughput ? baseScore - score : score - baseScore;
+            boolean slower = worse > Math.abs(baseScore) * scoreThreshold / 100 && worse > baseError + error;
+
+            double baseAllocation = allocation(before);
+            double allocation = allocation(after);
+            boolean allocates = allocation > baseAllocation * (1 + allocationThreshold / 100) + allocationSlack;
+
+            report.add(String.format(Locale.ROOT, "%s: %.3f ± %.3f -> %.3f ± %.3f %s (%+.1f%%), %.1f -> %.1f B/op",
+                key, baseScore, baseError, score, error, unit, change, baseAllocation, allocation));
+            if (slower) {
+                regressions.add(String.format(Locale.ROOT,
+                    "%s score %.3f ± %.3f -> %.3f ± %.3f %s (%+.1f%%, threshold %.1f%%)",
+                    key, baseScore, baseError, score, error, unit, change, scoreThreshold));
+            }
+            if (allocates) {
+                regressions.add(String.format(Locale.ROOT,
+                    "%s allocation %.1f -> %.1f B/op (threshold %.1f%% + %.1f B)",
+                    key, baseAllocation, allocation, allocationThreshold, allocationSlack));
+            }
+        }
+        for (String key : baselineByKey.keySet()) {
+            if (!currentByKey.containsKey(key)) {
+                report.add(key + ": not run");
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            byKey.put(key(result), result);
+        }
+        return byKey;
+    }
+
+    private static String key(JsonNode result) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        String name = result.path("benchmark").asText();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        return params.isEmpty() ? name : name + params;
+    }
+
+    /**
+     * Returns normalised allocation in bytes per operation, or 0 when the run had no GC profiler.
+     * Older JMH versions prefix secondary metric names with a middle dot.
+     */
+    private static double allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the half-width of the score's 99.9% confidence interval, or 0 when JMH could not compute one
+     * (a single measurement iteration, reported as NaN).
+     */
+    private static double scoreError(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,96 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.Main;
+import com.abd.demo.adapter.InputSource;
+import com.abd.demo.adapter.OutputAdapter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Main.processCommand: routing plus execution, with output discarded.
+ * The input mix is mostly times, with the occasional help and config command,
+ * like interactive traffic. Exit commands are left out since they end the session.
+ *
+ * Scores are per processed line.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandDispatchBenchmark {
+    private static final int LINES = 1024;
+
+    private Main main;
+    private String[] lines;
+
+    @Setup
+    public void setUp() {
+        main = new Main(new DiscardingOutput());
+        Random random = new Random(7);
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            if (i % 100 == 50) {
+                lines[i] = "help";
+            } else if (i % 100 == 99) {
+                lines[i] = "config";
+            } else {
+                lines[i] = random.nextInt(24) + ":" + String.format("%02d", random.nextInt(60));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void processCommand(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(main.processCommand(line));
+        }
+    }
+
+    /**
+     * Output adapter that drops everything, so the benchmark measures dispatch rather than the console.
+     */
+    private static final class DiscardingOutput implements OutputAdapter {
+        @Override
+        public void showWelcome() {
+        }
+
+        @Override
+        public void showHelp() {
+        }
+
+        @Override
+        public void showExit() {
+        }
+
+        @Override
+        public void showResult(String result) {
+        }
+
+        @Override
+        public void showError(String error) {
+        }
+
+        @Override
+        public void showSuccess(String message) {
+        }
+
+        @Override
+        public void showInfo(String message) {
+        }
+
+        @Override
+        public void showBlankLine() {
+        }
+
+        @Override
+        public String readInput(InputSource input) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.BritishTimeConverter;
+import com.abd.demo.service.rule.TimeConversionRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each default TimeConversionRule on its own, over the minutes it owns in the
+ * BritishTimeConverter dispatch (see RuleCoverage). Both canHandle and convert are measured,
+ * as a rule-chain step does.
+ *
+ * Each operation converts the next owned minute, cycling through all of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionRuleBenchmark {
+
+    @Param({"MidnightRule", "NoonRule", "OClockRule", "QuarterPastRule",
+            "HalfPastRule", "QuarterToRule", "MinutesPastRule", "MinutesToRule"})
+    public String rule;
+
+    private TimeConversionRule target;
+    private Time[] times;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BritishTimeConverter converter = new BritishTimeConverter();
+        target = converter.getRules().stream()
+            .filter(candidate -> candidate.getClass().getSimpleName().equals(rule))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown rule: " + rule));
+        List<Time> owned = converter.coverage().ownedTimes(target);
+        times = owned.toArray(new Time[0]);
+    }
+
+    @Benchmark
+    public String canHandleAndConvert() {
+        Time time = times[next];
+        next = next + 1 == times.length ? 0 : next + 1;
+        return target.canHandle(time) ? target.convert(time) : null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.SwarTimeDecoder;
+import com.abd.demo.service.TimeParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding fixed-width "HH:MM" records:
+ * - TimeParser.parse(String): the original String/exception based path
+ * - TimeParser.parseMinuteOfDay(byte[]): the allocation-free scanner
+ * - SwarTimeDecoder.decode: one long load validated with SWAR arithmetic
+ *
+ * Scores are per record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedWidthParseBenchmark {
+    private static final int RECORDS = 1024;
+    private static final int STRIDE = 6;
+    private static final int RECORD_LENGTH = 5;
+
+    private final TimeParser parser = new TimeParser();
+    private final SwarTimeDecoder decoder = new SwarTimeDecoder(parser);
+
+    private String[] lines;
+    private byte[] buffer;
+    private int[] output;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        lines = new String[RECORDS];
+        StringBuilder text = new StringBuilder(RECORDS * STRIDE);
+        for (int i = 0; i < RECORDS; i++) {
+            lines[i] = String.format("%02d:%02d", random.nextInt(24), random.nextInt(60));
+            text.append(lines[i]).append('\n');
+        }
+        buffer = text.toString().getBytes(StandardCharsets.US_ASCII);
+        output = new int[RECORDS];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void parseString(Blackhole blackhole) {
+        for (String line : lines) {
+            Time time = parser.parse(line);
+            blackhole.consume(time);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int[] parseMinuteOfDayBytes() {
+        for (int i = 0; i < RECORDS; i++) {
+            output[i] = parser.parseMinuteOfDay(buffer, i * STRIDE, RECORD_LENGTH);
+        }
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int[] swarDecode() {
+        decoder.decodeAll(buffer, 0, STRIDE, RECORD_LENGTH, RECORDS, output);
+        return output;
+    }
+}
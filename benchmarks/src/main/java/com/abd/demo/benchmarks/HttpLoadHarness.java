@@ -0,0 +1,269 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.server.HttpConversionServer;
+import com.abd.demo.server.ServerExecutors;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loopback load test of the HTTP conversion server.
+ * Starts {@link HttpConversionServer} in-process on a free loopback port, then runs closed-loop clients: each keeps
+ * one connection alive and sends {@code GET /convert?time=...} requests back to back, cycling over every minute of
+ * the day. Latencies of the warm-up period are discarded; the rest are reported as requests per second and
+ * nearest-rank p50, p99 and p999.
+ *
+ * Usage: HttpLoadHarness [clients] [seconds]
+ * System properties: http.warmup.seconds (default 3), http.executor (fixed or virtual, default fixed),
+ * http.threads (fixed pool size, default: available processors) and http.result (optional JSON output file).
+ */
+public final class HttpLoadHarness {
+    private static final int DEFAULT_CLIENTS = 8;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /** Throughput and latency distribution of one run; latencies in microseconds. */
+    public static final class Result {
+        private final long requests;
+        private final double requestsPerSecond;
+        private final double p50;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        Result(long requests, double requestsPerSecond, double p50, double p99, double p999, double max) {
+            this.requests = requests;
+            this.requestsPerSecond = requestsPerSecond;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.max = max;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getP999() {
+            return p999;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        String format() {
+            return String.format(Locale.ROOT, "%,d requests, %,.0f requests/s, p50 %.1f us, p99 %.1f us, "
+                + "p999 %.1f us, max %.1f us", requests, requestsPerSecond, p50, p99, p999, max);
+        }
+    }
+
+    private HttpLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 2) {
+            throw new IllegalArgumentException("Usage: HttpLoadHarness [clients] [seconds]");
+        }
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        int warmupSeconds = Integer.getInteger("http.warmup.seconds", 3);
+        String executorKind = System.getProperty("http.executor", ServerExecutors.FIXED);
+        int threads = Integer.getInteger("http.threads", Runtime.getRuntime().availableProcessors());
+
+        ExecutorService executor = ServerExecutors.create(executorKind, threads);
+        Result result;
+        try (HttpConversionServer server = HttpConversionServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), executor)) {
+            result = run(server.getAddress(), clients, TimeUnit.SECONDS.toNanos(warmupSeconds),
+                TimeUnit.SECONDS.toNanos(seconds));
+        }
+        System.out.printf(Locale.ROOT, "%d clients, %s executor: %s%n", clients, executorKind, result.format());
+
+        String resultFile = System.getProperty("http.result");
+        if (resultFile != null && !resultFile.isBlank()) {
+            ObjectMapper mapper = new ObjectMapper();
+            ObjectNode node = mapper.createObjectNode();
+            node.put("clients", clients);
+            node.put("executor", executorKind);
+            node.put("seconds", seconds);
+            node.put("requests", result.getRequests());
+            node.put("requestsPerSecond", result.getRequestsPerSecond());
+            node.put("p50Us", result.getP50());
+            node.put("p99Us", result.getP99());
+            node.put("p999Us", result.getP999());
+            node.put("maxUs", result.getMax());
+            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(resultFile), node);
+        }
+    }
+
+    /**
+     * Drives a running server with closed-loop keep-alive clients.
+     *
+     * @param address server address
+     * @param clients concurrent connections
+     * @param warmupNanos initial period whose latencies are discarded
+     * @param measureNanos measured period
+     * @return throughput and latency of the measured period
+     */
+    public static Result run(InetSocketAddress address, int clients, long warmupNanos, long measureNanos)
+            throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmupNanos;
+        long measureUntil = measureFrom + measureNanos;
+        List<Client> running = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(address, i, measureFrom, measureUntil);
+            client.start();
+            running.add(client);
+        }
+        int total = 0;
+        for (Client client : running) {
+            client.join();
+            if (client.failure != null) {
+                throw new IllegalStateException("Client failed", client.failure);
+            }
+            total += client.count;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Client client : running) {
+            System.arraycopy(client.latencies, 0, latencies, offset, client.count);
+            offset += client.count;
+        }
+        return summarize(latencies, measureNanos);
+    }
+
+    /**
+     * Summarizes request latencies using nearest-rank percentiles.
+     *
+     * @param nanos one latency per request, in nanoseconds
+     * @param elapsedNanos measured period
+     * @return throughput and latency distribution
+     * @throws IllegalArgumentException if there are no requests
+     */
+    public static Result summarize(long[] nanos, long elapsedNanos) {
+        Percentiles percentiles = new Percentiles(nanos);
+        return new Result(
+            percentiles.count(),
+            percentiles.count() / (elapsedNanos / NANOS_PER_SECOND),
+            percentiles.percentile(50) / NANOS_PER_MICRO,
+            percentiles.percentile(99) / NANOS_PER_MICRO,
+            percentiles.percentile(99.9) / NANOS_PER_MICRO,
+            percentiles.max() / NANOS_PER_MICRO);
+    }
+
+    /** One keep-alive connection sending requests back to back. */
+    private static final class Client extends Thread {
+        private final InetSocketAddress address;
+        private final int index;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final byte[][] requests = new byte[24 * 60][];
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private Exception failure;
+
+        Client(InetSocketAddress address, int index, long measureFrom, long measureUntil) {
+            super("http-load-" + index);
+            this.address = address;
+            this.index = index;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            for (int minute = 0; minute < requests.length; minute++) {
+                String time = (minute / 60) + ":" + String.format("%02d", minute % 60);
+                requests[minute] = ("GET /convert?time=" + time + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        @Override
+        public void run() {
+            try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+                socket.setTcpNoDelay(true);
+                OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                for (int i = index * 97; ; i++) {
+                    long start = System.nanoTime();
+                    if (start >= measureUntil) {
+                        return;
+                    }
+                    out.write(requests[i % requests.length]);
+                    out.flush();
+                    readResponse(in);
+                    if (start >= measureFrom) {
+                        record(System.nanoTime() - start);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        private void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+
+        private static void readResponse(InputStream in) throws IOException {
+            String status = readLine(in);
+            if (!status.startsWith("HTTP/1.1 200")) {
+                throw new IOException("Unexpected response: " + status);
+            }
+            int length = -1;
+            for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+                if (header.regionMatches(true, 0, "Content-Length:", 0, "Content-Length:".length())) {
+                    length = Integer.parseInt(header.substring("Content-Length:".length()).trim());
+                }
+            }
+            if (length < 0) {
+                throw new IOException("Response without Content-Length");
+            }
+            in.skipNBytes(length);
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b < 0) {
+                    throw new IOException("Connection closed by server");
+                }
+                if (b != '\r') {
+                    line.append((char) b);
+                }
+            }
+            return line.toString();
+        }
+    }
+}
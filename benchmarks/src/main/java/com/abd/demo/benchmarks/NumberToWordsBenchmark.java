@@ -0,0 +1,48 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.util.NumberToWordsUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumberToWordsUtil.convert(int) and convert(String) over every number a time can contain (0-59).
+ *
+ * Scores are per converted number.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberToWordsBenchmark {
+    private static final int NUMBERS = 60;
+
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        texts = new String[NUMBERS];
+        for (int i = 0; i < NUMBERS; i++) {
+            texts[i] = Integer.toString(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public void convertInt(Blackhole blackhole) {
+        for (int i = 0; i < NUMBERS; i++) {
+            blackhole.consume(NumberToWordsUtil.convert(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public void convertString(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(NumberToWordsUtil.convert(text));
+        }
+    }
+}
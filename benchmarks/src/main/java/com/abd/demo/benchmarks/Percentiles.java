@@ -0,0 +1,45 @@
+package com.abd.demo.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Nearest-rank percentiles of a sample of measurements, as reported by the harnesses.
+ * The p-th percentile is the smallest value such that at least p percent of the sample is less than or equal to it,
+ * so it is always one of the measured values.
+ */
+public final class Percentiles {
+    private final long[] sorted;
+
+    /**
+     * @param samples measurements in any order; not modified
+     * @throws IllegalArgumentException if there are no samples
+     */
+    public Percentiles(long[] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("No samples to summarize");
+        }
+        this.sorted = samples.clone();
+        Arrays.sort(sorted);
+    }
+
+    public int count() {
+        return sorted.length;
+    }
+
+    public long min() {
+        return sorted[0];
+    }
+
+    public long max() {
+        return sorted[sorted.length - 1];
+    }
+
+    /**
+     * @param percent between 0 and 100, e.g. 99.9
+     * @return the nearest-rank percentile
+     */
+    public long percentile(double percent) {
+        int rank = (int) Math.ceil(percent * sorted.length / 100.0);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,77 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.BritishTimeConverter;
+import com.abd.demo.service.RuleConverterGenerator;
+import com.abd.demo.service.TimeToWordsConverter;
+import com.abd.demo.service.rule.TimeConversionRule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting British times (multiples of five minutes) with the same rule set:
+ * - ruleStream: the original first-match stream over the rule objects
+ * - dispatchArray: BritishTimeConverter's minute-indexed dispatch array
+ * - generated: the hidden class emitted by RuleConverterGenerator
+ *
+ * Scores are per conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleConverterBenchmark {
+    private static final int TIMES = 1024;
+
+    private BritishTimeConverter british;
+    private TimeToWordsConverter generated;
+    private List<TimeConversionRule> rules;
+    private Time[] times;
+
+    @Setup
+    public void setUp() {
+        british = new BritishTimeConverter();
+        generated = RuleConverterGenerator.generate(british);
+        rules = british.getRules();
+
+        Random random = new Random(7);
+        times = new Time[TIMES];
+        for (int i = 0; i < TIMES; i++) {
+            times[i] = Time.of(random.nextInt(24), random.nextInt(12) * 5);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMES)
+    public void ruleStream(Blackhole blackhole) {
+        for (Time time : times) {
+            blackhole.consume(rules.stream()
+                .filter(rule -> rule.canHandle(time))
+                .findFirst()
+                .map(rule -> rule.convert(time))
+                .orElseThrow());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMES)
+    public void dispatchArray(Blackhole blackhole) {
+        for (Time time : times) {
+            blackhole.consume(british.convert(time));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMES)
+    public void generated(Blackhole blackhole) {
+        for (Time time : times) {
+            blackhole.consume(generated.convert(time));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.abd.demo.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures process startup of the application jar over repeated launches, with and without its AppCDS archive.
+ * Two times are taken per launch, both from just before the process is started:
+ * - first result: the first output line arrives, i.e. time to first conversion
+ * - exit: the process has terminated
+ *
+ * Launches alternate between the two configurations so that drift on the machine affects both alike.
+ *
+ * Usage: StartupTimeHarness app.jar [launches]
+ * System properties: startup.args (application arguments, default "7:30"), startup.archive (default: the jar
+ * path with .jsa) and startup.result (optional JSON output file).
+ */
+public final class StartupTimeHarness {
+    private static final int DEFAULT_LAUNCHES = 20;
+    private static final int WARMUP_LAUNCHES = 2;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** Distribution of one timing over all launches of a configuration, in milliseconds. */
+    public static final class Summary {
+        private final double min;
+        private final double median;
+        private final double p90;
+        private final double max;
+
+        Summary(double min, double median, double p90, double max) {
+            this.min = min;
+            this.median = median;
+            this.p90 = p90;
+            this.max = max;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMedian() {
+            return median;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        String format() {
+            return String.format(Locale.ROOT, "median %.1f ms (min %.1f, p90 %.1f, max %.1f)", median, min, p90, max);
+        }
+    }
+
+    private final List<String> command;
+
+    private StartupTimeHarness(List<String> command) {
+        this.command = command;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException("Usage: StartupTimeHarness <app.jar> [launches]");
+        }
+        Path jar = Path.of(args[0]).toAbsolutePath();
+        int launches = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LAUNCHES;
+        List<String> appArgs = Arrays.asList(System.getProperty("startup.args", "7:30").trim().split("\\s+"));
+        Path archive = Path.of(System.getProperty("startup.archive",
+            jar.toString().replaceFirst("\\.jar$", ".jsa"))).toAbsolutePath();
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalArgumentException("No CDS archive at " + archive + "; build it with 'mvn package'");
+        }
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        StartupTimeHarness plain = new StartupTimeHarness(launchCommand(java, List.of(), jar, appArgs));
+        StartupTimeHarness shared = new StartupTimeHarness(launchCommand(java,
+            List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:auto"), jar, appArgs));
+
+        for (int i = 0; i < WARMUP_LAUNCHES; i++) {
+            plain.launch();
+            shared.launch();
+        }
+        long[][] plainTimes = new long[2][launches];
+        long[][] sharedTimes = new long[2][launches];
+        for (int i = 0; i < launches; i++) {
+            record(plain.launch(), plainTimes, i);
+            record(shared.launch(), sharedTimes, i);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode results = mapper.createArrayNode();
+        report("no archive", plainTimes, results);
+        report("cds archive", sharedTimes, results);
+        String resultFile = System.getProperty("startup.result");
+        if (resultFile != null && !resultFile.isBlank()) {
+            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(resultFile), results);
+        }
+    }
+
+    private static List<String> launchCommand(String java, List<String> jvmOptions, Path jar, List<String> appArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(appArgs);
+        return command;
+    }
+
+    private static void record(long[] launch, long[][] times, int index) {
+        times[0][index] = launch[0];
+        times[1][index] = launch[1];
+    }
+
+    private static void report(String name, long[][] times, ArrayNode results) {
+        Summary firstResult = summarize(times[0]);
+        Summary exit = summarize(times[1]);
+        System.out.printf(Locale.ROOT, "%-12s first result %s%n", name, firstResult.format());
+        System.out.printf(Locale.ROOT, "%-12s exit         %s%n", "", exit.format());
+
+        ObjectNode entry = results.addObject();
+        entry.put("configuration", name);
+        entry.put("launches", times[0].length);
+        entry.set("firstResultMs", toJson(firstResult, entry));
+        entry.set("exitMs", toJson(exit, entry));
+    }
+
+    private static ObjectNode toJson(Summary summary, ObjectNode parent) {
+        ObjectNode node = parent.objectNode();
+        node.put("min", summary.getMin());
+        node.put("median", summary.getMedian());
+        node.put("p90", summary.getP90());
+        node.put("max", summary.getMax());
+        return node;
+    }
+
+    /**
+     * Starts the application once and waits for it to exit.
+     *
+     * @return nanoseconds until the first output line and until exit
+     */
+    private long[] launch() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .redirectInput(ProcessBuilder.Redirect.PIPE)
+            .start();
+        process.getOutputStream().close();
+        long firstResult = -1;
+        try (InputStream out = process.getInputStream()) {
+            int b;
+            while ((b = out.read()) >= 0) {
+                if (b == '\n' && firstResult < 0) {
+                    firstResult = System.nanoTime() - start;
+                }
+            }
+        }
+        if (!process.waitFor(1, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Launch did not terminate: " + command);
+        }
+        long exit = System.nanoTime() - start;
+        if (process.exitValue() != 0 || firstResult < 0) {
+            throw new IllegalStateException("Launch failed with status " + process.exitValue() + ": " + command);
+        }
+        return new long[]{firstResult, exit};
+    }
+
+    /**
+     * Summarizes launch times using nearest-rank percentiles.
+     *
+     * @param nanos one time per launch, in nanoseconds
+     * @return distribution in milliseconds
+     * @throws IllegalArgumentException if there are no launches
+     */
+    public static Summary summarize(long[] nanos) {
+        Percentiles percentiles = new Percentiles(nanos);
+        return new Summary(
+            percentiles.min() / NANOS_PER_MILLI,
+            percentiles.percentile(50) / NANOS_PER_MILLI,
+            percentiles.percentile(90) / NANOS_PER_MILLI,
+            percentiles.max() / NANOS_PER_MILLI);
+    }
+}
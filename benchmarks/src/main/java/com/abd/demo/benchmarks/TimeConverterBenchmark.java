@@ -0,0 +1,54 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeConverterService.convert across all 1440 minutes of the day,
+ * through the converter chain and through the precomputed phrase table.
+ *
+ * Scores are per conversion.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeConverterBenchmark {
+    private static final int MINUTES_PER_DAY = 1440;
+
+    private TimeConverterService converters;
+    private TimeConverterService precomputed;
+    private Time[] times;
+
+    @Setup
+    public void setUp() {
+        converters = new TimeConverterService();
+        precomputed = TimeConverterService.precomputed();
+        times = new Time[MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            times[minuteOfDay] = Time.ofMinuteOfDay(minuteOfDay);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MINUTES_PER_DAY)
+    public void convert(Blackhole blackhole) {
+        for (Time time : times) {
+            blackhole.consume(converters.convert(time));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MINUTES_PER_DAY)
+    public void convertPrecomputed(Blackhole blackhole) {
+        for (Time time : times) {
+            blackhole.consume(precomputed.convert(time));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.service.TimeParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeParser.parse(String) over a mix of "HH:MM", "H:MM" and hour-only inputs,
+ * and the allocation-free parseMinuteOfDay over the same strings.
+ *
+ * Scores are per parsed line.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeParserBenchmark {
+    private static final int LINES = 1024;
+
+    private final TimeParser parser = new TimeParser();
+    private String[] lines;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            int hours = random.nextInt(24);
+            int minutes = random.nextInt(60);
+            switch (i % 4) {
+                case 0:
+                    lines[i] = hours + ":" + String.format("%02d", minutes);
+                    break;
+                case 1:
+                    lines[i] = String.format("%02d:%02d", hours, minutes);
+                    break;
+                case 2:
+                    lines[i] = " " + hours + ":" + minutes + " ";
+                    break;
+                default:
+                    lines[i] = Integer.toString(hours);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void parse(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(parser.parse(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void parseMinuteOfDay(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(parser.parseMinuteOfDay(line));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.abd.demo.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BenchmarkComparison Tests")
+class BenchmarkComparisonTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final BenchmarkComparison comparison = new BenchmarkComparison(10, 10, 1);
+
+    @Test
+    @DisplayName("Should pass when results are within thresholds")
+    void testWithinThresholds() throws Exception {
+        List<String> report = new ArrayList<>();
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "thrpt", 100, 0)),
+            results(result("A.parse", "thrpt", 95, 0.5)),
+            report);
+
+        assertTrue(regressions.isEmpty(), regressions.toString());
+        assertEquals(1, report.size());
+        assertTrue(report.get(0).startsWith("A.parse: 100.000 ± 0.000 -> 95.000 ± 0.000"), report.get(0));
+    }
+
+    @Test
+    @DisplayName("Should fail when throughput drops beyond the threshold")
+    void testThroughputDrop() throws Exception {
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "thrpt", 100, 0)),
+            results(result("A.parse", "thrpt", 80, 0)),
+            new ArrayList<>());
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("score"));
+    }
+
+    @Test
+    @DisplayName("Should not fail on a drop within the scores' errors")
+    void testDropWithinErrors() throws Exception {
+        List<String> report = new ArrayList<>();
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "thrpt", 100, 15, 0)),
+            results(result("A.parse", "thrpt", 80, 10, 0)),
+            report);
+
+        assertTrue(regressions.isEmpty(), regressions.toString());
+        assertTrue(report.get(0).startsWith("A.parse: 100.000 ± 15.000 -> 80.000 ± 10.000"), report.get(0));
+    }
+
+    @Test
+    @DisplayName("Should fail on a drop beyond the threshold and the scores' errors")
+    void testDropBeyondErrors() throws Exception {
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "thrpt", 100, 5, 0)),
+            results(result("A.parse", "thrpt", 80, Double.NaN, 0)),
+            new ArrayList<>());
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("100.000 ± 5.000 -> 80.000 ± 0.000"), regressions.get(0));
+    }
+
+    @Test
+    @DisplayName("Should not fail on a drop beyond the errors but within the threshold")
+    void testSmallDropBeyondErrors() throws Exception {
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "thrpt", 100, 1, 0)),
+            results(result("A.parse", "thrpt", 95, 1, 0)),
+            new ArrayList<>());
+
+        assertTrue(regressions.isEmpty(), regressions.toString());
+    }
+
+    @Test
+    @DisplayName("Should treat a rising time per operation as a regression")
+    void testAverageTimeRise() throws Exception {
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "avgt", 10, 0)),
+            results(result("A.parse", "avgt", 12, 0)),
+            new ArrayList<>());
+
+        assertEquals(1, regressions.size());
+    }
+
+    @Test
+    @DisplayName("Should fail when allocation per operation rises")
+    void testAllocationRise() throws Exception {
+        List<String> regressions = comparison.compare(
+            results(result("A.parse", "thrpt", 100, 24)),
+            results(result("A.parse", "thrpt", 100, 48)),
+            new ArrayList<>());
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("allocation 24.0 -> 48.0 B/op"));
+    }
+
+    @Test
+    @DisplayName("Should match benchmarks by parameters and report missing entries")
+    void testParamsAndMissingEntries() throws Exception {
+        List<String> report = new ArrayList<>();
+        List<String> regressions = comparison.compare(
+            mapper.readTree("[" + result("x.y.R.convert", "thrpt", 100, 0, "{\"rule\":\"NoonRule\"}") + ","
+                + result("x.y.R.old", "thrpt", 1, 0) + "]"),
+            mapper.readTree("[" + result("x.y.R.convert", "thrpt", 100, 0, "{\"rule\":\"NoonRule\"}") + ","
+                + result("x.y.R.convert", "thrpt", 1, 0, "{\"rule\":\"OClockRule\"}") + "]"),
+            report);
+
+        assertTrue(regressions.isEmpty());
+        assertTrue(report.contains("R.convert{rule=OClockRule}: no baseline"));
+        assertTrue(report.contains("R.old: not run"));
+    }
+
+    private JsonNode results(String... results) throws Exception {
+        return mapper.readTree("[" + String.join(",", results) + "]");
+    }
+
+    private static String result(String benchmark, String mode, double score, double allocation) {
+        return result(benchmark, mode, score, 0, allocation, "{}");
+    }
+
+    private static String result(String benchmark, String mode, double score, double error, double allocation) {
+        return result(benchmark, mode, score, error, allocation, "{}");
+    }
+
+    private static String result(String benchmark, String mode, double score, double allocation, String params) {
+        return result(benchmark, mode, score, 0, allocation, params);
+    }
+
+    /** JMH writes an error it could not compute as the string "NaN". */
+    private static String result(String benchmark, String mode, double score, double error, double allocation,
+                                 String params) {
+        String scoreError = Double.isNaN(error) ? "\"NaN\"" : String.valueOf(error);
+        return "{\"benchmark\":\"" + benchmark + "\",\"mode\":\"" + mode + "\",\"params\":" + params + ","
+            + "\"primaryMetric\":{\"score\":" + score + ",\"scoreError\":" + scoreError
+            + ",\"scoreUnit\":\"ops/us\"},"
+            + "\"secondaryMetrics\":{\"gc.alloc.rate.norm\":{\"score\":" + allocation + ",\"scoreUnit\":\"B/op\"}}}";
+    }
+}
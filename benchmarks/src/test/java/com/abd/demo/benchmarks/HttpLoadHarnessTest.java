@@ -0,0 +1,46 @@
+package com.abd.demo.benchmarks;
+
+import com.abd.demo.server.HttpConversionServer;
+import com.abd.demo.server.ServerExecutors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HttpLoadHarness Tests")
+class HttpLoadHarnessTest {
+
+    @Test
+    @DisplayName("Should summarize throughput and latencies in microseconds")
+    void testSummarize() {
+        long[] nanos = LongStream.rangeClosed(1, 1000).map(i -> i * 1_000).toArray();
+
+        HttpLoadHarness.Result result = HttpLoadHarness.summarize(nanos, TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(1000, result.getRequests());
+        assertEquals(500.0, result.getRequestsPerSecond(), 1e-9);
+        assertEquals(500.0, result.getP50(), 1e-9);
+        assertEquals(990.0, result.getP99(), 1e-9);
+        assertEquals(999.0, result.getP999(), 1e-9);
+        assertEquals(1000.0, result.getMax(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should drive a loopback server over keep-alive connections")
+    void testRunAgainstLoopbackServer() throws Exception {
+        try (HttpConversionServer server = HttpConversionServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), ServerExecutors.create(ServerExecutors.FIXED, 2))) {
+            HttpLoadHarness.Result result = HttpLoadHarness.run(server.getAddress(), 2,
+                TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(300));
+
+            assertTrue(result.getRequests() > 0);
+            assertTrue(result.getP50() <= result.getP99());
+            assertTrue(result.getP99() <= result.getP999());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.abd.demo.benchmarks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Percentiles Tests")
+class PercentilesTest {
+
+    @Test
+    @DisplayName("Should pick nearest-rank percentiles from unsorted samples")
+    void testNearestRank() {
+        long[] samples = {190, 180, 170, 160, 150, 140, 130, 120, 110, 100};
+
+        Percentiles percentiles = new Percentiles(samples);
+
+        assertEquals(10, percentiles.count());
+        assertEquals(100, percentiles.min());
+        assertEquals(140, percentiles.percentile(50));
+        assertEquals(180, percentiles.percentile(90));
+        assertEquals(190, percentiles.max());
+        assertEquals(190, samples[0], "samples are not modified");
+    }
+
+    @Test
+    @DisplayName("Should resolve fractional percentiles on large samples")
+    void testFractionalPercent() {
+        Percentiles percentiles = new Percentiles(LongStream.rangeClosed(1, 1000).toArray());
+
+        assertEquals(70, percentiles.percentile(7));
+        assertEquals(990, percentiles.percentile(99));
+        assertEquals(999, percentiles.percentile(99.9));
+        assertEquals(1000, percentiles.percentile(100));
+    }
+
+    @Test
+    @DisplayName("Should summarize a single sample")
+    void testSingleSample() {
+        Percentiles percentiles = new Percentiles(new long[]{250});
+
+        assertEquals(250, percentiles.min());
+        assertEquals(250, percentiles.percentile(50));
+        assertEquals(250, percentiles.percentile(99.9));
+        assertEquals(250, percentiles.max());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty sample")
+    void testEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> new Percentiles(new long[0]));
+    }
+}
@@ -0,0 +1,30 @@
+package com.abd.demo.benchmarks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StartupTimeHarness Tests")
+class StartupTimeHarnessTest {
+
+    private static long millis(long ms) {
+        return ms * 1_000_000;
+    }
+
+    @Test
+    @DisplayName("Should summarize launch times in milliseconds")
+    void testSummarize() {
+        long[] times = new long[10];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = millis(100 + 10L * (times.length - 1 - i));
+        }
+
+        StartupTimeHarness.Summary summary = StartupTimeHarness.summarize(times);
+
+        assertEquals(100.0, summary.getMin());
+        assertEquals(140.0, summary.getMedian());
+        assertEquals(180.0, summary.getP90());
+        assertEquals(190.0, summary.getMax());
+    }
+}
@@ -0,0 +1,334 @@
+package com.abd.demo;
+
+import com.abd.demo.adapter.ConsoleAdapter;
+import com.abd.demo.adapter.InputSource;
+import com.abd.demo.adapter.LineTooLongException;
+import com.abd.demo.adapter.OutputAdapter;
+import com.abd.demo.adapter.PipeAdapter;
+import com.abd.demo.adapter.StreamInputSource;
+import com.abd.demo.batch.BatchConverter;
+import com.abd.demo.batch.BatchStats;
+import com.abd.demo.batch.MappedBatchConverter;
+import com.abd.demo.batch.ParallelBatchConverter;
+import com.abd.demo.batch.StreamingBatchConverter;
+import com.abd.demo.command.*;
+import com.abd.demo.config.CliOptions;
+import com.abd.demo.config.LoggerConfigUtil;
+import com.abd.demo.server.HttpConversionServer;
+import com.abd.demo.server.TcpConversionServer;
+import com.abd.demo.server.ServerExecutors;
+import com.abd.demo.service.TimeConverterService;
+import com.abd.demo.service.TimeParser;
+import lombok.CustomLog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Main application entry point.
+ * Orchestrates the CLI application using DDD Hexagonal Architecture + Strategy Pattern.
+ * Layers:
+ * - Adapter Layer: OutputAdapter (port), ConsoleAdapter (adapter implementation)
+ * - Application Layer: Command implementations (application services)
+ * - Domain Layer: Time (core business logic)
+ * Follows Open/Closed Principle - new commands can be added without modifying this class.
+ */
+@CustomLog
+public class Main {
+    private static final int PIPE_BUFFER_SIZE = 1 << 16;
+
+    private final OutputAdapter output;
+    private final CommandRouter router;
+
+    public Main() {
+        this(new ConsoleAdapter());
+    }
+
+    /**
+     * Constructor with dependency injection.
+     * Accepts any OutputAdapter implementation (Console, Web, GUI, File, etc.)
+     *
+     * @param output the output adapter to use for UI operations
+     */
+    public Main(OutputAdapter output) {
+        // Initialize console logging (disabled by default)
+        LoggerConfigUtil.initializeConsoleLogging();
+
+        log.info("Initializing British Spoken Time application");
+        this.output = output;
+        this.router = new CommandRouter(createCommands());
+        log.debug("Loaded {} commands", router.getCommands().size());
+    }
+
+    public static void main(String[] args) {
+        int status = execute(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the mode selected by the arguments.
+     *
+     * @param args command-line arguments, see {@link CliOptions}
+     * @return process exit status: 0 on success, 1 on I/O failure or when a time argument is invalid,
+     *         2 on invalid arguments
+     */
+    static int execute(String[] args) {
+        CliOptions options;
+        try {
+            options = CliOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            OutputAdapter console = new ConsoleAdapter();
+            console.showError(e.getMessage());
+            console.showInfo(CliOptions.usage());
+            return 2;
+        }
+
+        if (options.isOneShot()) {
+            return runOneShot(options.getTimes(), new PipeAdapter(System.out));
+        }
+
+        // Detach console logging before anything is logged, so pipe and batch output stay clean
+        LoggerConfigUtil.initializeConsoleLogging();
+        OutputAdapter console = new ConsoleAdapter();
+
+        if (options.isBatch()) {
+            return runBatch(options, console);
+        }
+
+        if (options.isWarmup()) {
+            warmUp(options, System.err);
+        }
+
+        if (options.isServe()) {
+            return runServer(options, console);
+        }
+
+        if (options.isPipe() || System.console() == null) {
+            return runPipe(console);
+        }
+
+        log.info("Starting British Spoken Time Converter application");
+        new Main(console).run();
+        log.info("Application terminated");
+        return 0;
+    }
+
+    /**
+     * Converts each time argument and writes only the results, one line each.
+     * Touches no command, no phrase table and no logging: nothing but the parser and the rules is loaded.
+     *
+     * @param times time arguments
+     * @param output where results and errors are written
+     * @return 0 if every time converted, 1 otherwise
+     */
+    static int runOneShot(List<String> times, OutputAdapter output) {
+        TimeParser parser = new TimeParser();
+        TimeConverterService converter = new TimeConverterService();
+        int status = 0;
+        for (String time : times) {
+            try {
+                output.showResult(converter.convert(parser.parse(time)));
+            } catch (RuntimeException e) {
+                output.showError(e.getMessage());
+                status = 1;
+            }
+        }
+        output.flush();
+        return status;
+    }
+
+    /**
+     * Runs the JIT warm-up and signals readiness by writing its report, before any input is read.
+     * Log events of the synthetic input are not written: the appenders are detached while it runs.
+     *
+     * @param options warm-up budgets
+     * @param ready where the report goes; standard error, so a pipe's output stays clean
+     * @return the warm-up report, also logged
+     */
+    static Warmup.Report warmUp(CliOptions options, OutputStream ready) {
+        Runnable restoreLogging = LoggerConfigUtil.detachAppenders();
+        Warmup.Report report;
+        try {
+            report = new Warmup(options.getWarmupIterations(), options.getWarmupMillis()).run();
+        } finally {
+            restoreLogging.run();
+        }
+        log.info("{}", report.format());
+        OutputAdapter signal = new PipeAdapter(ready);
+        signal.showInfo(report.format());
+        signal.flush();
+        return report;
+    }
+
+    /**
+     * Runs as a Unix filter. Output goes straight to {@link PipeAdapter}, whose buffer is written only when it fills,
+     * on exit or at end of input; an asynchronous writer in between would flush it after every batch.
+     */
+    private static int runPipe(OutputAdapter console) {
+        log.info("Starting pipe mode");
+        InputSource input = new StreamInputSource(System.in, PIPE_BUFFER_SIZE, InputSource.DEFAULT_MAX_LINE_LENGTH);
+        try {
+            new Main(new PipeAdapter(System.out)).run(input);
+            return 0;
+        } catch (UncheckedIOException e) {
+            log.error("Pipe output failed", e);
+            console.showError("Pipe output failed: " + e.getCause());
+            return 1;
+        }
+    }
+
+    /**
+     * Starts the HTTP server and returns; the server's threads keep the JVM running until it is stopped,
+     * and a shutdown hook closes it on SIGTERM or Ctrl-C.
+     */
+    private static int runServer(CliOptions options, OutputAdapter console) {
+        if (options.isTcp()) {
+            return runTcpServer(options, console);
+        }
+        try {
+            ExecutorService executor = ServerExecutors.create(options.getExecutor(), options.getThreads());
+            HttpConversionServer server = HttpConversionServer.start(
+                new InetSocketAddress(options.getHost(), options.getPort()), executor);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "http-shutdown"));
+            log.info("Serving on {} with a {} executor", server.getAddress(), options.getExecutor());
+            console.showInfo("Listening on http://" + options.getHost() + ":" + server.getAddress().getPort() + "/convert");
+            return 0;
+        } catch (IOException | IllegalStateException e) {
+            log.error("Server failed to start", e);
+            console.showError("Server failed to start: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int runTcpServer(CliOptions options, OutputAdapter console) {
+        TcpConversionServer.Protocol protocol = options.isBinary()
+            ? TcpConversionServer.Protocol.BINARY : TcpConversionServer.Protocol.LINE;
+        try {
+            TcpConversionServer server = TcpConversionServer.start(
+                new InetSocketAddress(options.getHost(), options.getPort()), options.getEventLoops(), protocol);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "tcp-shutdown"));
+            log.info("Serving the {} protocol on {} with {} event loops", protocol, server.getAddress(),
+                options.getEventLoops());
+            console.showInfo("Listening on tcp://" + options.getHost() + ":" + server.getAddress().getPort()
+                + " (" + protocol.name().toLowerCase(Locale.ROOT) + " protocol)");
+            return 0;
+        } catch (IOException e) {
+            log.error("Server failed to start", e);
+            console.showError("Server failed to start: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static BatchConverter createBatchConverter(CliOptions options) {
+        if (options.isParallel()) {
+            return new ParallelBatchConverter(options.getPartitions(), options.getWindowSize());
+        }
+        if (options.isMapped()) {
+            return new MappedBatchConverter(options.getWindowSize());
+        }
+        return new StreamingBatchConverter(options.getBufferSize());
+    }
+
+    private static int runBatch(CliOptions options, OutputAdapter console) {
+        log.info("Converting {} to {}", options.getInput(), options.getOutput());
+        try {
+            BatchStats stats = createBatchConverter(options).convert(options.getInput(), options.getOutput());
+            console.showInfo(stats.format());
+            return 0;
+        } catch (IOException e) {
+            log.error("Batch conversion failed", e);
+            console.showError("Batch conversion failed: " + e);
+            return 1;
+        }
+    }
+
+    private List<Command> createCommands() {
+        TimeParser timeParser = new TimeParser();
+        TimeConverterService timeConverterService = TimeConverterService.precomputed();
+
+        return List.of(
+            new ExitCommand(output),
+            new HelpCommand(output),
+            new ConfigCommand(output),
+            new TimeConversionCommand(timeParser, timeConverterService, output)
+        );
+    }
+
+    public void run() {
+        run(new StreamInputSource(System.in));
+    }
+
+    /**
+     * Runs the read-evaluate loop until an exit command or the end of input.
+     *
+     * @param source input lines, closed when the loop ends
+     * @throws UncheckedIOException if reading input fails
+     */
+    public void run(InputSource source) {
+        log.info("Starting main application loop");
+        try (source) {
+            output.showWelcome();
+
+            while (true) {
+                String input;
+                try {
+                    input = output.readInput(source);
+                } catch (LineTooLongException e) {
+                    output.showError(e.getMessage());
+                    continue;
+                }
+                if (input == null) {
+                    log.info("End of input, terminating application");
+                    break;
+                }
+                if (input.isEmpty()) {
+                    log.trace("Empty input received, skipping");
+                    continue;
+                }
+
+                log.debug("Processing user input: '{}'", input);
+                CommandResult result = processCommand(input);
+
+                if (result.shouldShowBlankLine()) {
+                    output.showBlankLine();
+                }
+
+                if (result.shouldExit()) {
+                    log.info("Exit command received, terminating application");
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            output.flush();
+        }
+        log.debug("Main application loop completed");
+    }
+
+    /**
+     * Routes one trimmed input line to its command and executes it.
+     *
+     * @param input trimmed, non-empty input line
+     * @return result of the executed command
+     */
+    public CommandResult processCommand(String input) {
+        Command command = router.route(input);
+        if (command == null) {
+            return CommandResult.continueRunning(); // Should never happen with default handler
+        }
+        log.debug("Command {} will handle input '{}'", command.getClass().getSimpleName(), input);
+        return command.execute(input);
+    }
+
+    public static String getMessage() {
+        return "Hello, World!";
+    }
+}
+
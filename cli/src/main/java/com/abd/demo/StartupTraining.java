@@ -0,0 +1,54 @@
+package com.abd.demo;
+
+import com.abd.demo.adapter.ArrayInputSource;
+import com.abd.demo.adapter.OutputAdapter;
+import com.abd.demo.adapter.PipeAdapter;
+import com.abd.demo.batch.MappedBatchConverter;
+import com.abd.demo.batch.ParallelBatchConverter;
+import com.abd.demo.batch.StreamingBatchConverter;
+import com.abd.demo.config.LoggerConfigUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Training run for the AppCDS archive built with the jar.
+ * Drives every mode once with representative input, writing to nowhere, so that the classes each mode
+ * loads end up in the archive: run with -XX:ArchiveClassesAtExit and the archive is written at exit.
+ */
+public final class StartupTraining {
+    private static final List<String> TIMES = List.of("0:00", "7:30", "12:00", "14:45", "9:05", "23:59", "25:00", "abc");
+
+    private StartupTraining() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        OutputAdapter discard = new PipeAdapter(OutputStream.nullOutputStream());
+
+        // One-shot mode, before logging is initialized
+        Main.runOneShot(TIMES, discard);
+
+        // Interactive and pipe modes
+        LoggerConfigUtil.initializeConsoleLogging();
+        String session = String.join("\n", TIMES) + "\nhelp\nconfig\nexit\n";
+        new Main(discard).run(new ArrayInputSource(session));
+
+        // Batch modes
+        Path directory = Files.createTempDirectory("cds-training");
+        Path input = Files.writeString(directory.resolve("in.txt"), String.join("\n", TIMES));
+        Path output = directory.resolve("out.txt");
+        try {
+            new StreamingBatchConverter().convert(input, output);
+            new MappedBatchConverter().convert(input, output);
+            new ParallelBatchConverter(2, MappedBatchConverter.DEFAULT_WINDOW_SIZE).convert(input, output);
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.abd.demo;
+
+import com.abd.demo.adapter.PipeAdapter;
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import com.abd.demo.service.TimeParser;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JIT warm-up run before the interactive and pipe modes accept input.
+ * Drives the parser, the rule path of {@link TimeConverterService} (and with it every conversion rule and the
+ * general converter) and the command dispatch of a {@link Main} writing to nowhere, round-robin over every minute
+ * of the day plus invalid times and the built-in commands, until the iteration or the time budget is spent.
+ *
+ * The {@link Report} compares the latency of the very first command with the mean latency of the same command
+ * after warm-up, which is what the budget should be tuned against: once the two stop moving apart, more
+ * iterations buy nothing.
+ */
+public final class Warmup {
+    public static final int DEFAULT_MAX_ITERATIONS = 50_000;
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 2_000;
+
+    private static final String PROBE = "7:30";
+    private static final int PROBE_SAMPLES = 1_000;
+    private static final int CLOCK_CHECK_MASK = 0xFF;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final List<String> INPUTS = createInputs();
+
+    private final int maxIterations;
+    private final long timeBudgetNanos;
+
+    public Warmup() {
+        this(DEFAULT_MAX_ITERATIONS, DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * @param maxIterations iteration budget, one input per iteration
+     * @param timeBudgetMillis wall-clock budget; warm-up stops at whichever budget is spent first
+     */
+    public Warmup(int maxIterations, long timeBudgetMillis) {
+        if (maxIterations <= 0 || timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Warm-up budgets must be positive");
+        }
+        this.maxIterations = maxIterations;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+    }
+
+    /**
+     * Runs the warm-up on the calling thread.
+     *
+     * @return iterations run, time spent and the latency of the probe command before and after
+     */
+    public Report run() {
+        Main main = new Main(new PipeAdapter(OutputStream.nullOutputStream()));
+        TimeParser parser = new TimeParser();
+        TimeConverterService rules = new TimeConverterService();
+
+        long start = System.nanoTime();
+        main.processCommand(PROBE);
+        long firstCallNanos = System.nanoTime() - start;
+
+        int iterations = 0;
+        long elapsed = 0;
+        while (iterations < maxIterations) {
+            String input = INPUTS.get(iterations % INPUTS.size());
+            main.processCommand(input);
+            try {
+                rules.convert(parser.parse(input));
+            } catch (RuntimeException e) {
+                // invalid times and commands exercise the parser's error paths
+            }
+            iterations++;
+            if ((iterations & CLOCK_CHECK_MASK) == 0) {
+                elapsed = System.nanoTime() - start;
+                if (elapsed >= timeBudgetNanos) {
+                    break;
+                }
+            }
+        }
+        elapsed = System.nanoTime() - start;
+
+        long probeStart = System.nanoTime();
+        for (int i = 0; i < PROBE_SAMPLES; i++) {
+            main.processCommand(PROBE);
+        }
+        long warmedCallNanos = (System.nanoTime() - probeStart) / PROBE_SAMPLES;
+
+        return new Report(iterations, elapsed, firstCallNanos, warmedCallNanos);
+    }
+
+    private static List<String> createInputs() {
+        List<String> inputs = new ArrayList<>();
+        for (int minuteOfDay = 0; minuteOfDay < 24 * 60; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            inputs.add(time.getHours() + ":" + String.format(Locale.ROOT, "%02d", time.getMinutes()));
+        }
+        inputs.addAll(List.of("25:00", "7:60", "abc", "help", "config", "exit"));
+        return List.copyOf(inputs);
+    }
+
+    /**
+     * Outcome of a warm-up run.
+     */
+    public static final class Report {
+        private final int iterations;
+        private final long elapsedNanos;
+        private final long firstCallNanos;
+        private final long warmedCallNanos;
+
+        Report(int iterations, long elapsedNanos, long firstCallNanos, long warmedCallNanos) {
+            this.iterations = iterations;
+            this.elapsedNanos = elapsedNanos;
+            this.firstCallNanos = firstCallNanos;
+            this.warmedCallNanos = warmedCallNanos;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return latency of the first command, before anything was compiled
+         */
+        public long getFirstCallNanos() {
+            return firstCallNanos;
+        }
+
+        /**
+         * @return mean latency of the same command after warm-up
+         */
+        public long getWarmedCallNanos() {
+            return warmedCallNanos;
+        }
+
+        public String format() {
+            return String.format(Locale.ROOT,
+                "Warm-up done: %,d iterations in %.1f ms; first call %.1f us, after warm-up %.3f us",
+                iterations, elapsedNanos / NANOS_PER_MILLI,
+                firstCallNanos / NANOS_PER_MICRO, warmedCallNanos / NANOS_PER_MICRO);
+        }
+
+        @Override
+        public String toString() {
+            return format();
+        }
+    }
+}
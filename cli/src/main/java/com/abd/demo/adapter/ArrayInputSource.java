@@ -0,0 +1,27 @@
+package com.abd.demo.adapter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Input source over input already in memory, mainly for tests. Lines are decoded from the array in place.
+ */
+public class ArrayInputSource extends BufferedInputSource {
+
+    public ArrayInputSource(String text) {
+        this(text.getBytes(StandardCharsets.UTF_8), DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    public ArrayInputSource(byte[] data, int maxLineLength) {
+        super(data, data.length, maxLineLength);
+    }
+
+    @Override
+    protected int read(byte[] b, int off, int len) {
+        return -1;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
@@ -0,0 +1,310 @@
+package com.abd.demo.adapter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decorator that moves output I/O off the command thread.
+ * Messages are put on a bounded single-producer/single-consumer ring and a dedicated writer thread hands them
+ * to the delegate in batches, calling {@link OutputAdapter#flush()} once per batch: when a batch reaches the
+ * size threshold, when the oldest unflushed message has waited for the linger time, or when the producer
+ * asks for a flush. With a buffering delegate such as {@link PipeAdapter} every batch becomes one large write.
+ *
+ * Only one thread may produce output, as in Main. When the ring is full the {@link Backpressure} policy decides
+ * whether the producer waits or the message is dropped and counted. {@link #showExit()} is never dropped and
+ * returns only after everything before it has been written.
+ */
+public class AsyncOutputAdapter implements OutputAdapter, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 512;
+    public static final Duration DEFAULT_LINGER = Duration.ofMillis(1);
+
+    /** What the producer does when the ring is full. */
+    public enum Backpressure {
+        /** Wait for the writer to free a slot. */
+        BLOCK,
+        /** Discard the message and count it, see {@link #getDropped()}. */
+        DROP
+    }
+
+    private static final int WELCOME = 0;
+    private static final int HELP = 1;
+    private static final int EXIT = 2;
+    private static final int RESULT = 3;
+    private static final int ERROR = 4;
+    private static final int SUCCESS = 5;
+    private static final int INFO = 6;
+    private static final int BLANK = 7;
+
+    private static final long PRODUCER_PARK_NANOS = 50_000;
+    private static final long IDLE_PARK_NANOS = 100_000_000;
+
+    private final OutputAdapter delegate;
+    private final MessageRing ring;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Backpressure backpressure;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+
+    private volatile long flushRequested;
+    private volatile long flushed;
+    private volatile boolean closed;
+    private volatile boolean writerIdle;
+    private volatile RuntimeException failure;
+
+    public AsyncOutputAdapter(OutputAdapter delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_LINGER, Backpressure.BLOCK);
+    }
+
+    /**
+     * Creates the adapter and starts its writer thread.
+     *
+     * @param delegate adapter that performs the actual output; its output methods are only called from the
+     *                 writer thread, {@link OutputAdapter#readInput} and {@link OutputAdapter#isInteractive}
+     *                 from the calling thread
+     * @param capacity ring capacity, a power of two
+     * @param batchSize number of messages after which the delegate is flushed
+     * @param linger longest time a message waits for its batch to fill
+     * @param backpressure behaviour when the ring is full
+     */
+    public AsyncOutputAdapter(OutputAdapter delegate, int capacity, int batchSize, Duration linger,
+                              Backpressure backpressure) {
+        if (batchSize <= 0 || batchSize > capacity) {
+            throw new IllegalArgumentException("Batch size must be between 1 and the capacity, got: " + batchSize);
+        }
+        this.delegate = delegate;
+        this.ring = new MessageRing(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = Math.max(1, linger.toNanos());
+        this.backpressure = backpressure;
+        this.writer = new Thread(this::writeLoop, "output-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void showWelcome() {
+        enqueue(WELCOME, null);
+    }
+
+    @Override
+    public void showHelp() {
+        enqueue(HELP, null);
+    }
+
+    @Override
+    public void showExit() {
+        put(EXIT, null);
+        flush();
+    }
+
+    @Override
+    public void showResult(String result) {
+        if (result != null) {
+            enqueue(RESULT, result);
+        }
+    }
+
+    @Override
+    public void showError(String error) {
+        enqueue(ERROR, error);
+    }
+
+    @Override
+    public void showSuccess(String message) {
+        enqueue(SUCCESS, message);
+    }
+
+    @Override
+    public void showInfo(String message) {
+        enqueue(INFO, message);
+    }
+
+    @Override
+    public void showBlankLine() {
+        enqueue(BLANK, null);
+    }
+
+    /**
+     * Reads through the delegate on the calling thread. For interactive delegates pending output is
+     * flushed first, so that the prompt follows it.
+     */
+    @Override
+    public String readInput(InputSource input) throws IOException {
+        if (delegate.isInteractive()) {
+            flush();
+        }
+        return delegate.readInput(input);
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return delegate.isInteractive();
+    }
+
+    /**
+     * Waits until every message enqueued so far has been handed to the delegate and the delegate flushed.
+     *
+     * @throws RuntimeException the delegate's failure, if the writer thread hit one
+     */
+    @Override
+    public void flush() {
+        long target = ring.produced();
+        flushRequested = target;
+        LockSupport.unpark(writer);
+        while (flushed < target) {
+            checkFailure();
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+        checkFailure();
+    }
+
+    /**
+     * Flushes pending output and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            LockSupport.unpark(writer);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of messages discarded under {@link Backpressure#DROP}.
+     *
+     * @return dropped message count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void enqueue(int kind, String text) {
+        if (backpressure == Backpressure.BLOCK) {
+            put(kind, text);
+            return;
+        }
+        checkFailure();
+        if (ring.offer(kind, text)) {
+            wakeWriterOnBatch();
+        } else {
+            dropped.incrementAndGet();
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void put(int kind, String text) {
+        checkFailure();
+        while (!ring.offer(kind, text)) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            checkFailure();
+        }
+        wakeWriterOnBatch();
+    }
+
+    /**
+     * Wakes the writer when it went idle or a batch is full. The message is published with a volatile store
+     * before writerIdle is read, and the writer sets writerIdle before it re-checks the ring, so one of the two
+     * always sees the other and no wakeup is lost.
+     */
+    private void wakeWriterOnBatch() {
+        if (writerIdle || ring.size() == batchSize) {
+            writerIdle = false;
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void checkFailure() {
+        RuntimeException e = failure;
+        if (e != null) {
+            throw e;
+        }
+        if (closed) {
+            throw new IllegalStateException("Output adapter is closed");
+        }
+    }
+
+    private void writeLoop() {
+        int pending = 0;
+        long firstPendingAt = 0;
+        while (true) {
+            int drained;
+            try {
+                drained = ring.drain(this::dispatch, batchSize);
+                if (drained > 0 && pending == 0) {
+                    firstPendingAt = System.nanoTime();
+                }
+                pending += drained;
+                if (pending > 0 && (pending >= batchSize || flushRequested > flushed
+                        || System.nanoTime() - firstPendingAt >= lingerNanos)) {
+                    delegate.flush();
+                    pending = 0;
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+                return;
+            }
+            if (pending == 0) {
+                flushed = ring.consumed();
+            }
+            if (drained == 0) {
+                if (closed && ring.size() == 0) {
+                    return;
+                }
+                if (pending > 0) {
+                    LockSupport.parkNanos(this, Math.max(1, lingerNanos - (System.nanoTime() - firstPendingAt)));
+                } else {
+                    // Nothing buffered: sleep until the producer enqueues, flushes or closes
+                    writerIdle = true;
+                    if (ring.size() == 0 && flushRequested <= flushed && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    writerIdle = false;
+                }
+            }
+        }
+    }
+
+    private void dispatch(int kind, String text) {
+        switch (kind) {
+            case WELCOME:
+                delegate.showWelcome();
+                break;
+            case HELP:
+                delegate.showHelp();
+                break;
+            case EXIT:
+                delegate.showExit();
+                break;
+            case RESULT:
+                delegate.showResult(text);
+                break;
+            case ERROR:
+                delegate.showError(text);
+                break;
+            case SUCCESS:
+                delegate.showSuccess(text);
+                break;
+            case INFO:
+                delegate.showInfo(text);
+                break;
+            default:
+                delegate.showBlankLine();
+                break;
+        }
+    }
+}
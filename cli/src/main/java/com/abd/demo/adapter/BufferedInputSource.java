@@ -0,0 +1,189 @@
+package com.abd.demo.adapter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * Base for byte-oriented input sources.
+ * Bytes are read into one reusable buffer and scanned for '\n' directly; each line is decoded straight from the
+ * buffer into its String, the only copy. The buffer never grows: a line that does not fit within the maximum
+ * line length is discarded up to its terminator and reported with {@link LineTooLongException}.
+ */
+public abstract class BufferedInputSource implements InputSource {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final int maxLineLength;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private Scanner scanner;
+
+    protected BufferedInputSource(int bufferSize, int maxLineLength) {
+        if (maxLineLength <= 0) {
+            throw new IllegalArgumentException("Maximum line length must be positive, got: " + maxLineLength);
+        }
+        this.maxLineLength = maxLineLength;
+        // Room for the longest allowed line and its "\r\n"
+        this.buffer = new byte[Math.max(bufferSize, maxLineLength + 2)];
+    }
+
+    /**
+     * Creates a source whose whole input is already in memory; {@link #read} is never called.
+     */
+    protected BufferedInputSource(byte[] data, int length, int maxLineLength) {
+        if (maxLineLength <= 0) {
+            throw new IllegalArgumentException("Maximum line length must be positive, got: " + maxLineLength);
+        }
+        this.maxLineLength = maxLineLength;
+        this.buffer = data;
+        this.limit = length;
+        this.endOfInput = true;
+    }
+
+    /**
+     * Reads more bytes into the buffer.
+     *
+     * @return number of bytes read, possibly 0, or -1 at end of input
+     */
+    protected abstract int read(byte[] b, int off, int len) throws IOException;
+
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        int scan = position;
+        while (true) {
+            int newline = indexOfNewline(scan);
+            if (newline >= 0) {
+                int start = position;
+                position = newline + 1;
+                return line(start, newline);
+            }
+            if (limit - position > maxLineLength + 1) {
+                skipLine();
+                throw new LineTooLongException(maxLineLength);
+            }
+            if (endOfInput) {
+                if (position == limit) {
+                    return null;
+                }
+                int start = position;
+                position = limit;
+                return line(start, limit);
+            }
+            scan = limit - position;
+            fill();
+            scan += position;
+        }
+    }
+
+    private String line(int start, int end) throws LineTooLongException {
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        if (end - start > maxLineLength) {
+            throw new LineTooLongException(maxLineLength);
+        }
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private void skipLine() throws IOException {
+        while (true) {
+            int newline = indexOfNewline(position);
+            if (newline >= 0) {
+                position = newline + 1;
+                return;
+            }
+            position = limit;
+            if (endOfInput) {
+                return;
+            }
+            fill();
+        }
+    }
+
+    private int indexOfNewline(int from) {
+        for (int i = from; i < limit; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Moves unread bytes to the front and reads at least one more byte, unless at end of input
+    private void fill() throws IOException {
+        int remaining = limit - position;
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        position = 0;
+        limit = remaining;
+        while (true) {
+            int read = read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                endOfInput = true;
+                return;
+            }
+            if (read > 0) {
+                limit += read;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Scanner asScanner() {
+        if (scanner == null) {
+            scanner = new Scanner(new LineReader());
+        }
+        return scanner;
+    }
+
+    /**
+     * Reader view used by the Scanner bridge: serves each line followed by '\n'.
+     * A line that is too long is served as the {@link LineTooLongException} message instead: Scanner would take the
+     * exception for the end of input, so the session would silently stop at the first overlong line.
+     */
+    private final class LineReader extends Reader {
+        private String current = "";
+        // Past the end of current, including its '\n': nothing pending
+        private int index = 1;
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (index > current.length()) {
+                String next;
+                try {
+                    next = readLine();
+                } catch (LineTooLongException e) {
+                    next = e.getMessage();
+                }
+                if (next == null) {
+                    return -1;
+                }
+                current = next;
+                index = 0;
+            }
+            int count = Math.min(len, current.length() - index);
+            current.getChars(index, index + count, cbuf, off);
+            index += count;
+            if (count < len && index == current.length()) {
+                cbuf[off + count++] = '\n';
+                index++;
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // the source is closed by its owner
+        }
+    }
+}
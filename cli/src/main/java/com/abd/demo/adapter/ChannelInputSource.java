@@ -0,0 +1,31 @@
+package com.abd.demo.adapter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Input source over a ReadableByteChannel, such as a FileChannel or a blocking SocketChannel.
+ */
+public class ChannelInputSource extends BufferedInputSource {
+    private final ReadableByteChannel channel;
+
+    public ChannelInputSource(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    public ChannelInputSource(ReadableByteChannel channel, int bufferSize, int maxLineLength) {
+        super(bufferSize, maxLineLength);
+        this.channel = channel;
+    }
+
+    @Override
+    protected int read(byte[] b, int off, int len) throws IOException {
+        return channel.read(ByteBuffer.wrap(b, off, len));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -1,7 +1,7 @@
 package com.abd.demo.adapter;
 
+import java.io.IOException;
 import java.util.Optional;
-import java.util.Scanner;
 
 /**
  * Console/Terminal adapter implementation.
@@ -75,8 +75,9 @@ public class ConsoleAdapter implements OutputAdapter {
     }
 
     @Override
-    public String readInput(Scanner scanner) {
+    public String readInput(InputSource input) throws IOException {
         writePrompt(messages.getPrompt());
-        return scanner.nextLine().trim();
+        String line = input.readLine();
+        return line == null ? null : line.trim();
     }
 }
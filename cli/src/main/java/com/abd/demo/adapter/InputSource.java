@@ -0,0 +1,38 @@
+package com.abd.demo.adapter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Scanner;
+
+/**
+ * Input port - Inbound Port in Hexagonal Architecture.
+ * Supplies the application with lines of input, one command or time per line.
+ *
+ * Implementations:
+ * - StreamInputSource (any InputStream, e.g. System.in)
+ * - ChannelInputSource (ReadableByteChannel, e.g. a file or socket)
+ * - ArrayInputSource (in-memory input for tests)
+ *
+ * Lines are decoded as UTF-8 and bounded by a maximum length, so a single pathological line cannot exhaust memory.
+ */
+public interface InputSource extends Closeable {
+
+    /** Default maximum line length in bytes, excluding the line terminator. */
+    int DEFAULT_MAX_LINE_LENGTH = 8 << 10;
+
+    /**
+     * Reads the next line.
+     * @return the line without its terminator ("\n" or "\r\n"), or null at end of input
+     * @throws LineTooLongException if the line exceeds the maximum length; the line is skipped and
+     *         the next call returns the line after it
+     * @throws IOException if reading fails
+     */
+    String readLine() throws IOException;
+
+    /**
+     * Compatibility view for adapters that still read through a {@link Scanner}.
+     * Returns the same Scanner on every call; it reads lines through this source.
+     * @return scanner over the remaining input
+     */
+    Scanner asScanner();
+}
@@ -0,0 +1,20 @@
+package com.abd.demo.adapter;
+
+import java.io.IOException;
+
+/**
+ * Thrown by an {@link InputSource} for a line longer than its maximum line length.
+ * The offending line has already been skipped, so reading can continue with the next line.
+ */
+public class LineTooLongException extends IOException {
+    private final int maxLineLength;
+
+    public LineTooLongException(int maxLineLength) {
+        super("Line exceeds " + maxLineLength + " bytes");
+        this.maxLineLength = maxLineLength;
+    }
+
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+}
@@ -0,0 +1,93 @@
+package com.abd.demo.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer/single-consumer ring of output messages.
+ * Each slot holds a message kind and its text in two parallel arrays, so enqueueing allocates nothing.
+ * The producer publishes a slot by advancing the tail with a volatile store, the consumer frees it by
+ * advancing the head with a release store; neither side takes a lock. The volatile store keeps a consumer
+ * that announces it is going idle and then re-checks the ring from missing a message whose producer saw it
+ * still busy: both sides order their store before their load.
+ */
+final class MessageRing {
+    /** Receives drained messages on the consumer thread. */
+    @FunctionalInterface
+    interface Handler {
+        void handle(int kind, String text);
+    }
+
+    private final int mask;
+    private final int[] kinds;
+    private final String[] texts;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // Producer's last observed head, refreshed only when the ring looks full
+    private long cachedHead;
+
+    MessageRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two, got: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.kinds = new int[capacity];
+        this.texts = new String[capacity];
+    }
+
+    int capacity() {
+        return kinds.length;
+    }
+
+    /**
+     * Enqueues a message; producer thread only.
+     *
+     * @return false when the ring is full
+     */
+    boolean offer(int kind, String text) {
+        long t = tail.get();
+        if (t - cachedHead == kinds.length) {
+            cachedHead = head.get();
+            if (t - cachedHead == kinds.length) {
+                return false;
+            }
+        }
+        int slot = (int) t & mask;
+        kinds[slot] = kind;
+        texts[slot] = text;
+        tail.set(t + 1);
+        return true;
+    }
+
+    /**
+     * Hands up to max messages to the handler in order; consumer thread only.
+     *
+     * @return number of messages drained
+     */
+    int drain(Handler handler, int max) {
+        long h = head.get();
+        int count = (int) Math.min(tail.get() - h, max);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (h + i) & mask;
+            String text = texts[slot];
+            texts[slot] = null;
+            handler.handle(kinds[slot], text);
+        }
+        head.lazySet(h + count);
+        return count;
+    }
+
+    /** Number of messages ever enqueued. */
+    long produced() {
+        return tail.get();
+    }
+
+    /** Number of messages ever drained. */
+    long consumed() {
+        return head.get();
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
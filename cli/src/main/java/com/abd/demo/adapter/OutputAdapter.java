@@ -1,6 +1,6 @@
 package com.abd.demo.adapter;
 
-import java.util.Scanner;
+import java.io.IOException;
 
 /**
  * Output adapter interface - Outbound Port in Hexagonal Architecture.
@@ -64,8 +64,25 @@ public interface OutputAdapter {
 
     /**
      * Read input from user.
-     * @param scanner input source
-     * @return user input as string
+     * Adapters still written against {@link java.util.Scanner} can extend {@link ScannerOutputAdapter}.
+     * @param input input source
+     * @return user input as string, or null at end of input
+     * @throws IOException if reading fails, including {@link LineTooLongException} for an overlong line
      */
-    String readInput(Scanner scanner);
+    String readInput(InputSource input) throws IOException;
+
+    /**
+     * Whether a person is at the other end: input is prompted for and output is expected immediately.
+     * @return false for pipes and other non-interactive sinks
+     */
+    default boolean isInteractive() {
+        return true;
+    }
+
+    /**
+     * Write through any buffered output.
+     * Called at end of input; adapters that write immediately need not override it.
+     */
+    default void flush() {
+    }
 }
@@ -0,0 +1,99 @@
+package com.abd.demo.adapter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Adapter for non-interactive use, when input is piped in and output is piped on.
+ * Behaves like a Unix filter: no welcome banner, no prompt and no blank separator lines, just one output line
+ * per input line. Output is UTF-8 encoded into a large buffer that is written through only when it fills
+ * or on {@link #flush()}, which Main calls at end of input.
+ */
+public class PipeAdapter implements OutputAdapter {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final Messages messages;
+    private final OutputStream out;
+
+    public PipeAdapter(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE, new Messages());
+    }
+
+    public PipeAdapter(OutputStream out, int bufferSize, Messages messages) {
+        this.messages = messages;
+        this.out = new BufferedOutputStream(out, bufferSize);
+    }
+
+    protected void write(String message) {
+        try {
+            out.write(message.getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void showWelcome() {
+        // no banner in a pipe
+    }
+
+    @Override
+    public void showHelp() {
+        write(messages.getHelp());
+    }
+
+    @Override
+    public void showExit() {
+        flush();
+    }
+
+    @Override
+    public void showResult(String result) {
+        Optional.ofNullable(result).ifPresent(this::write);
+    }
+
+    @Override
+    public void showError(String error) {
+        write(messages.formatError(error));
+    }
+
+    @Override
+    public void showSuccess(String message) {
+        write(messages.formatSuccess(message));
+    }
+
+    @Override
+    public void showInfo(String message) {
+        write(messages.formatInfo(message));
+    }
+
+    @Override
+    public void showBlankLine() {
+        // no separators in a pipe
+    }
+
+    @Override
+    public String readInput(InputSource input) throws IOException {
+        String line = input.readLine();
+        return line == null ? null : line.trim();
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return false;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
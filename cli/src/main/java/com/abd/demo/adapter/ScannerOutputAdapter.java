@@ -0,0 +1,33 @@
+package com.abd.demo.adapter;
+
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+/**
+ * Base class for output adapters that still read through a {@link Scanner}.
+ * Bridges {@link #readInput(InputSource)} to {@link #readInput(Scanner)} through {@link InputSource#asScanner()};
+ * the end of input, which a Scanner reports by throwing, becomes null.
+ *
+ * @deprecated Scanner scans lines with regular expressions and copies input twice;
+ *             implement {@link OutputAdapter#readInput(InputSource)} instead
+ */
+@Deprecated
+public abstract class ScannerOutputAdapter implements OutputAdapter {
+
+    @Override
+    public final String readInput(InputSource input) {
+        try {
+            return readInput(input.asScanner());
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read input from user.
+     * @param scanner input source
+     * @return user input as string
+     * @throws NoSuchElementException at end of input
+     */
+    public abstract String readInput(Scanner scanner);
+}
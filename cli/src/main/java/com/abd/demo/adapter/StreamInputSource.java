@@ -0,0 +1,30 @@
+package com.abd.demo.adapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input source over an InputStream, such as System.in.
+ */
+public class StreamInputSource extends BufferedInputSource {
+    private final InputStream in;
+
+    public StreamInputSource(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    public StreamInputSource(InputStream in, int bufferSize, int maxLineLength) {
+        super(bufferSize, maxLineLength);
+        this.in = in;
+    }
+
+    @Override
+    protected int read(byte[] b, int off, int len) throws IOException {
+        return in.read(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
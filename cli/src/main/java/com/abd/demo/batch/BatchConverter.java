@@ -0,0 +1,24 @@
+package com.abd.demo.batch;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Port for file-to-file batch conversion.
+ * Input is one time per line; output has one line per non-blank input line: the spoken phrase,
+ * or "Error: " and the parse error for invalid lines. Blank lines are skipped, as in the interactive mode.
+ *
+ * Implementations differ only in how bytes are moved (streamed, memory-mapped, partitioned);
+ * for the same input they produce byte-identical output.
+ */
+public interface BatchConverter {
+    /**
+     * Converts a whole file.
+     *
+     * @param input file to read
+     * @param output file to create or replace
+     * @return counters of the run
+     * @throws IOException if either file cannot be read or written
+     */
+    BatchStats convert(Path input, Path output) throws IOException;
+}
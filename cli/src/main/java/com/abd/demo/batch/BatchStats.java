@@ -0,0 +1,104 @@
+package com.abd.demo.batch;
+
+import java.util.Locale;
+
+/**
+ * Counters of a batch conversion run: lines read, valid and invalid lines,
+ * bytes in and out, and elapsed wall-clock time.
+ * Blank lines are skipped, as in the interactive mode, and counted separately.
+ */
+public final class BatchStats {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private long valid;
+    private long invalid;
+    private long blank;
+    private long bytesRead;
+    private long bytesWritten;
+    private long elapsedNanos;
+
+    void recordValid() {
+        valid++;
+    }
+
+    void recordInvalid() {
+        invalid++;
+    }
+
+    void recordBlank() {
+        blank++;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead += bytes;
+    }
+
+    void addBytesWritten(long bytes) {
+        bytesWritten += bytes;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Adds another run's counters (e.g. of one partition) to this one; elapsed time is not summed.
+     *
+     * @param other counters to add
+     */
+    void add(BatchStats other) {
+        valid += other.valid;
+        invalid += other.invalid;
+        blank += other.blank;
+        bytesRead += other.bytesRead;
+        bytesWritten += other.bytesWritten;
+    }
+
+    public long getLines() {
+        return valid + invalid + blank;
+    }
+
+    public long getValid() {
+        return valid;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    public long getBlank() {
+        return blank;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getLinesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getLines() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Renders the end-of-run report.
+     *
+     * @return one-line summary, the same whatever the default locale
+     */
+    public String format() {
+        return String.format(Locale.ROOT, "Converted %,d lines (%,d valid, %,d invalid, %,d blank) in %.1f ms, %,.0f lines/s",
+            getLines(), valid, invalid, blank, elapsedNanos / NANOS_PER_MILLI, getLinesPerSecond());
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
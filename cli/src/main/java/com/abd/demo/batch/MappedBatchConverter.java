@@ -0,0 +1,91 @@
+package com.abd.demo.batch;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Batch converter for files on local disk: the input is mapped with {@link FileChannel#map} in
+ * fixed-size read-only windows and records are parsed in place, straight from the page cache.
+ * Nothing is copied into heap buffers; only the output goes through a direct buffer.
+ *
+ * A window ends at the last complete record it contains; the next window is mapped from the start
+ * of the record that did not fit, so records spanning a window boundary are seen whole.
+ * A record longer than a window is reported as invalid and skipped.
+ */
+public class MappedBatchConverter implements BatchConverter {
+    public static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+    private final RecordConverter records;
+    private final int windowSize;
+
+    public MappedBatchConverter() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedBatchConverter(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive, got: " + windowSize);
+        }
+        this.windowSize = windowSize;
+        this.records = new RecordConverter(windowSize);
+    }
+
+    @Override
+    public BatchStats convert(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        BatchStats stats = new BatchStats();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                 StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputBuffer sink = new OutputBuffer(out, StreamingBatchConverter.DEFAULT_BUFFER_SIZE, stats);
+            convert(in, 0, in.size(), sink, stats);
+            sink.flush();
+        }
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Converts the records in {@code [from, to)} of the channel. {@code from} must be a record start;
+     * the record containing {@code to - 1} is converted whole only if {@code to} is the end of the file
+     * or just past a newline.
+     */
+    void convert(FileChannel in, long from, long to, OutputBuffer sink, BatchStats stats) throws IOException {
+        long position = from;
+        while (position < to) {
+            int length = (int) Math.min(windowSize, to - position);
+            boolean lastWindow = position + length == to;
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+            int consumed = records.convert(window, 0, length, lastWindow, sink, stats);
+            stats.addBytesRead(consumed);
+            if (consumed == 0) {
+                records.convertOverlongRecord(sink, stats);
+                long next = skipRecord(in, position + length, to);
+                stats.addBytesRead(next - position);
+                position = next;
+            } else {
+                position += consumed;
+            }
+        }
+    }
+
+    /**
+     * Returns the start of the record after the one containing {@code position}, or {@code to}.
+     */
+    private long skipRecord(FileChannel in, long position, long to) throws IOException {
+        while (position < to) {
+            int length = (int) Math.min(windowSize, to - position);
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            int newline = RecordConverter.indexOfNewline(window, 0, length);
+            if (newline >= 0) {
+                return position + newline + 1;
+            }
+            position += length;
+        }
+        return to;
+    }
+}
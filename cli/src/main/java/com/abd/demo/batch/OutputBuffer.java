@@ -0,0 +1,45 @@
+package com.abd.demo.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Reusable direct output buffer in front of a channel. Bytes are only written to the
+ * channel when the buffer fills up or on {@link #flush()}.
+ */
+final class OutputBuffer {
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final BatchStats stats;
+
+    OutputBuffer(WritableByteChannel channel, int capacity, BatchStats stats) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        this.stats = stats;
+    }
+
+    void write(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            flush();
+            if (bytes.length > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(bytes));
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        stats.addBytesWritten(bytes.remaining());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
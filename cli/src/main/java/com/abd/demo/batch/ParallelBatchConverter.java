@@ -0,0 +1,162 @@
+package com.abd.demo.batch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Batch converter that splits the input into byte ranges aligned to line boundaries and converts
+ * each range on its own worker, with its own output buffer and counters, through memory-mapped windows
+ * (see {@link MappedBatchConverter}). Each worker writes a temporary segment next to the output file;
+ * the segments are then concatenated in input order with {@link FileChannel#transferTo}, so the output
+ * is byte-identical to a single-threaded run.
+ */
+public class ParallelBatchConverter implements BatchConverter {
+    private static final int ALIGNMENT_CHUNK = 4096;
+
+    private final int partitions;
+    private final MappedBatchConverter ranges;
+
+    public ParallelBatchConverter() {
+        this(Runtime.getRuntime().availableProcessors(), MappedBatchConverter.DEFAULT_WINDOW_SIZE);
+    }
+
+    public ParallelBatchConverter(int partitions, int windowSize) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive, got: " + partitions);
+        }
+        this.partitions = partitions;
+        this.ranges = new MappedBatchConverter(windowSize);
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    @Override
+    public BatchStats convert(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        BatchStats stats = new BatchStats();
+        List<Path> segments = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(partitions);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long[] bounds = split(in, partitions);
+            List<Future<BatchStats>> results = new ArrayList<>();
+            Path directory = output.toAbsolutePath().getParent();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                Path segment = Files.createTempFile(directory, "segment-" + i + "-", ".tmp");
+                segments.add(segment);
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                results.add(workers.submit(() -> convertRange(in, from, to, segment)));
+            }
+            for (Future<BatchStats> result : results) {
+                stats.add(await(result));
+            }
+            concatenate(segments, output);
+        } finally {
+            workers.shutdownNow();
+            for (Path segment : segments) {
+                Files.deleteIfExists(segment);
+            }
+        }
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Returns partition boundaries: 0, then each equal split point moved forward to the next line start,
+     * then the file size. Empty partitions (e.g. inside one long line) are dropped.
+     */
+    static long[] split(FileChannel in, int partitions) throws IOException {
+        long size = in.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        for (int i = 1; i < partitions; i++) {
+            long bound = nextLineStart(in, size * i / partitions, size);
+            if (bound > bounds.get(bounds.size() - 1) && bound < size) {
+                bounds.add(bound);
+            }
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel in, long position, long size) throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(ALIGNMENT_CHUNK);
+        // A line starts at position if the previous byte ends one
+        long scan = position - 1;
+        while (scan < size) {
+            chunk.clear();
+            int read = in.read(chunk, scan);
+            if (read <= 0) {
+                break;
+            }
+            int newline = RecordConverter.indexOfNewline(chunk, 0, read);
+            if (newline >= 0) {
+                return scan + newline + 1;
+            }
+            scan += read;
+        }
+        return size;
+    }
+
+    private BatchStats convertRange(FileChannel in, long from, long to, Path segment) throws IOException {
+        BatchStats stats = new BatchStats();
+        try (FileChannel out = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputBuffer sink = new OutputBuffer(out, StreamingBatchConverter.DEFAULT_BUFFER_SIZE, stats);
+            ranges.convert(in, from, to, sink, stats);
+            sink.flush();
+        }
+        return stats;
+    }
+
+    private static void concatenate(List<Path> segments, Path output) throws IOException {
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path segment : segments) {
+                try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+        }
+    }
+
+    private static BatchStats await(Future<BatchStats> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while converting", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Partition conversion failed", cause);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.abd.demo.batch;
+
+import com.abd.demo.service.BritishTimeConverter;
+import com.abd.demo.service.GeneralTimeConverter;
+import com.abd.demo.service.ParseResult;
+import com.abd.demo.service.PhraseTable;
+import com.abd.demo.service.TimeParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts newline-terminated records straight from a ByteBuffer region to output bytes.
+ * Records are parsed in place with {@link TimeParser#parseMinuteOfDay(ByteBuffer, int, int)} and answered
+ * from pre-encoded UTF-8 lines of the {@link PhraseTable}, so no String is created per record.
+ *
+ * Immutable and thread-safe; counters and output buffers are supplied by the caller.
+ */
+final class RecordConverter {
+    static final byte NEWLINE = '\n';
+    private static final String ERROR_PREFIX = "Error: ";
+    private static final int ERROR_CODES = 128;
+
+    private final TimeParser parser;
+    private final byte[][] phrases;
+    private final byte[][] errors;
+    private final byte[] lineTooLong;
+
+    RecordConverter(int maxLineLength) {
+        this(PhraseTable.build(new BritishTimeConverter(), new GeneralTimeConverter()), new TimeParser(), maxLineLength);
+    }
+
+    RecordConverter(PhraseTable table, TimeParser parser, int maxLineLength) {
+        this.parser = parser;
+        this.phrases = new byte[PhraseTable.MINUTES_PER_DAY][];
+        for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+            phrases[minuteOfDay] = line(table.phrase(minuteOfDay));
+        }
+        this.errors = new byte[ERROR_CODES][];
+        for (int code = 0; code < ERROR_CODES; code++) {
+            errors[code] = line(ERROR_PREFIX + ParseResult.describe(code));
+        }
+        this.lineTooLong = line(ERROR_PREFIX + "Line exceeds " + maxLineLength + " bytes");
+    }
+
+    /**
+     * Converts every complete record in {@code [start, end)}; with {@code endOfInput}, also the final
+     * record without a line terminator.
+     *
+     * @return index just past the last record consumed
+     */
+    int convert(ByteBuffer input, int start, int end, boolean endOfInput, OutputBuffer out, BatchStats stats)
+            throws IOException {
+        int recordStart = start;
+        for (int i = start; i < end; i++) {
+            if (input.get(i) == NEWLINE) {
+                convertRecord(input, recordStart, i, out, stats);
+                recordStart = i + 1;
+            }
+        }
+        if (endOfInput && recordStart < end) {
+            convertRecord(input, recordStart, end, out, stats);
+            recordStart = end;
+        }
+        return recordStart;
+    }
+
+    void convertRecord(ByteBuffer input, int start, int end, OutputBuffer out, BatchStats stats) throws IOException {
+        int result = parser.parseMinuteOfDay(input, start, end - start);
+        if (ParseResult.isValid(result)) {
+            out.write(phrases[ParseResult.minuteOfDay(result)]);
+            stats.recordValid();
+        } else if (ParseResult.errorCode(result) == ParseResult.EMPTY) {
+            stats.recordBlank();
+        } else {
+            out.write(errors[ParseResult.errorCode(result)]);
+            stats.recordInvalid();
+        }
+    }
+
+    /**
+     * Reports a record longer than the caller's buffer or window; the caller skips its remaining bytes.
+     */
+    void convertOverlongRecord(OutputBuffer out, BatchStats stats) throws IOException {
+        out.write(lineTooLong);
+        stats.recordInvalid();
+    }
+
+    static int indexOfNewline(ByteBuffer input, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (input.get(i) == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] line(String text) {
+        return (text + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package com.abd.demo.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Batch converter that streams the input through one reusable direct buffer and the output through another.
+ * Records are converted in place in the input buffer; an incomplete record at the end of a read is compacted
+ * to the front and completed by the next read. Memory use is two buffers regardless of file size.
+ *
+ * A line longer than the buffer is reported as invalid and skipped.
+ */
+public class StreamingBatchConverter implements BatchConverter {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private final RecordConverter records;
+    private final int bufferSize;
+
+    public StreamingBatchConverter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamingBatchConverter(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive, got: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.records = new RecordConverter(bufferSize);
+    }
+
+    @Override
+    public BatchStats convert(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        BatchStats stats = new BatchStats();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                 StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            convert(in, out, stats);
+        }
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Converts everything readable from {@code in} to {@code out}; neither channel is closed.
+     *
+     * @param in input channel, read to end of stream
+     * @param out output channel
+     * @param stats receives the counters
+     * @throws IOException if reading or writing fails
+     */
+    public void convert(ReadableByteChannel in, WritableByteChannel out, BatchStats stats) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        OutputBuffer sink = new OutputBuffer(out, bufferSize, stats);
+        boolean skipping = false;
+        boolean endOfInput = false;
+
+        while (!endOfInput) {
+            int read = in.read(buffer);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                stats.addBytesRead(read);
+            }
+            int limit = buffer.position();
+            int from = 0;
+
+            if (skipping) {
+                // Discard the rest of an overlong line
+                int newline = RecordConverter.indexOfNewline(buffer, 0, limit);
+                if (newline < 0) {
+                    buffer.clear();
+                    continue;
+                }
+                from = newline + 1;
+                skipping = false;
+            }
+
+            int consumed = records.convert(buffer, from, limit, endOfInput, sink, stats);
+            if (consumed == 0 && limit == buffer.capacity()) {
+                records.convertOverlongRecord(sink, stats);
+                skipping = true;
+                buffer.clear();
+                continue;
+            }
+            buffer.position(consumed).limit(limit);
+            buffer.compact();
+        }
+        sink.flush();
+    }
+}
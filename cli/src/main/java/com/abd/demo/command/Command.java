@@ -1,5 +1,7 @@
 package com.abd.demo.command;
 
+import java.util.Set;
+
 /**
  * Command Strategy Interface
  * Represents a command that can be executed in the application.
@@ -32,4 +34,15 @@ public interface Command {
     default int getPriority() {
         return 100;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the first words this command answers to, matched case-insensitively by CommandRouter.
+     * A command declaring keywords must not accept input that starts with a digit.
+     * Commands that inspect the whole input (e.g. the time conversion fallback) return an empty set.
+     *
+     * @return keywords (default: none)
+     */
+    default Set<String> keywords() {
+        return Set.of();
+    }
+}
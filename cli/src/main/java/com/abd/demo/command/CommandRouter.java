@@ -0,0 +1,108 @@
+package com.abd.demo.command;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Routes input lines to commands without probing every command.
+ * Commands keep the {@link Command#getPriority()} contract; the router only precomputes
+ * where the answer can be:
+ * - input starting with a digit goes straight to the commands without keywords (time conversion),
+ *   since keyword commands never accept it
+ * - otherwise the first word is looked up, case-insensitively, in a keyword map built at construction,
+ *   and the hit is confirmed with canHandle
+ * - anything else falls back to the full priority-ordered scan, so a command whose canHandle accepts
+ *   more than its keywords (e.g. "configure" for ConfigCommand) still behaves as before
+ */
+@Slf4j
+public class CommandRouter {
+    private final List<Command> commands;
+    private final List<Command> fallbacks = new ArrayList<>();
+    private final Map<String, KeywordRoute> keywords = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    public CommandRouter(List<? extends Command> commands) {
+        this.commands = commands.stream()
+            .sorted(Comparator.comparingInt(Command::getPriority))
+            .collect(Collectors.toList());
+
+        for (Command command : this.commands) {
+            if (command.keywords().isEmpty()) {
+                fallbacks.add(command);
+                continue;
+            }
+            KeywordRoute route = new KeywordRoute(command, List.copyOf(fallbacks));
+            for (String keyword : command.keywords()) {
+                // Commands are in priority order, so the first registration of a keyword wins
+                keywords.putIfAbsent(keyword, route);
+            }
+        }
+        log.debug("Routing {} keywords, {} fallback commands", keywords.size(), fallbacks.size());
+    }
+
+    /**
+     * Returns the commands in priority order.
+     *
+     * @return commands, highest priority first
+     */
+    public List<Command> getCommands() {
+        return List.copyOf(commands);
+    }
+
+    /**
+     * Finds the command that handles the input: the same command a priority-ordered
+     * scan of canHandle would pick.
+     *
+     * @param input trimmed input line
+     * @return handling command, or null if none accepts the input
+     */
+    public Command route(String input) {
+        if (!input.isEmpty() && Character.isDigit(input.charAt(0))) {
+            return firstAccepting(fallbacks, input);
+        }
+
+        KeywordRoute route = keywords.get(firstWord(input));
+        if (route != null && route.command.canHandle(input)) {
+            // Fallbacks ranked above the keyword command still get the first look
+            Command earlier = firstAccepting(route.before, input);
+            return earlier != null ? earlier : route.command;
+        }
+        return firstAccepting(commands, input);
+    }
+
+    private static Command firstAccepting(List<Command> candidates, String input) {
+        for (Command command : candidates) {
+            if (command.canHandle(input)) {
+                return command;
+            }
+        }
+        return null;
+    }
+
+    private static String firstWord(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (Character.isWhitespace(input.charAt(i))) {
+                return input.substring(0, i);
+            }
+        }
+        return input;
+    }
+
+    /**
+     * Keyword command plus the keyword-less commands that outrank it.
+     */
+    private static final class KeywordRoute {
+        private final Command command;
+        private final List<Command> before;
+
+        KeywordRoute(Command command, List<Command> before) {
+            this.command = command;
+            this.before = before;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.abd.demo.adapter.OutputAdapter;
 import com.abd.demo.config.AppConfig;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Set;
+
 /**
  * Command to handle configuration changes.
  * Single Responsibility: Handle configuration-related commands.
@@ -30,7 +32,12 @@ public class ConfigCommand implements Command {
 
     @Override
     public boolean canHandle(String input) {
-        return input.toLowerCase().startsWith(CONFIG_PREFIX);
+        return input.regionMatches(true, 0, CONFIG_PREFIX, 0, CONFIG_PREFIX.length());
+    }
+
+    @Override
+    public Set<String> keywords() {
+        return Set.of(CONFIG_PREFIX);
     }
 
     @Override
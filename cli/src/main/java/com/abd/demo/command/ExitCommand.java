@@ -3,6 +3,7 @@ package com.abd.demo.command;
 import com.abd.demo.adapter.OutputAdapter;
 
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Command to handle application exit.
@@ -10,6 +11,7 @@ import java.util.Set;
  */
 public class ExitCommand implements Command {
     private static final Set<String> EXIT_KEYWORDS = Set.of("exit", "quit", "q");
+    private static final Set<String> EXIT_LOOKUP = caseInsensitive(EXIT_KEYWORDS);
 
     private final OutputAdapter output;
 
@@ -19,7 +21,12 @@ public class ExitCommand implements Command {
 
     @Override
     public boolean canHandle(String input) {
-        return EXIT_KEYWORDS.contains(input.toLowerCase());
+        return EXIT_LOOKUP.contains(input);
+    }
+
+    @Override
+    public Set<String> keywords() {
+        return EXIT_KEYWORDS;
     }
 
     @Override
@@ -32,4 +39,10 @@ public class ExitCommand implements Command {
     public int getPriority() {
         return 5; // Highest priority
     }
-}
\ No newline at end of file
+
+    private static Set<String> caseInsensitive(Set<String> keywords) {
+        Set<String> lookup = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        lookup.addAll(keywords);
+        return lookup;
+    }
+}
@@ -2,11 +2,15 @@ package com.abd.demo.command;
 
 import com.abd.demo.adapter.OutputAdapter;
 
+import java.util.Set;
+
 /**
  * Command to display help information.
  * Single Responsibility: Handle help requests only.
  */
 public class HelpCommand implements Command {
+    private static final String HELP_KEYWORD = "help";
+
     private final OutputAdapter output;
 
     public HelpCommand(OutputAdapter output) {
@@ -15,7 +19,12 @@ public class HelpCommand implements Command {
 
     @Override
     public boolean canHandle(String input) {
-        return "help".equalsIgnoreCase(input);
+        return HELP_KEYWORD.equalsIgnoreCase(input);
+    }
+
+    @Override
+    public Set<String> keywords() {
+        return Set.of(HELP_KEYWORD);
     }
 
     @Override
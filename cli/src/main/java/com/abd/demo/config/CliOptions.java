@@ -0,0 +1,310 @@
+package com.abd.demo.config;
+
+import com.abd.demo.Warmup;
+import com.abd.demo.server.ServerExecutors;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Command-line options of the application.
+ * Without options the interactive mode starts, or the pipe mode when there is no terminal;
+ * {@code --pipe} forces the pipe mode, {@code --in} and {@code --out} select the batch mode, and arguments that
+ * are not options are times to convert in one shot. {@code --serve} starts the HTTP server instead, or with
+ * {@code --tcp} the plain TCP server, speaking the line protocol or with {@code --binary} the binary one.
+ * {@code --warmup} runs a JIT warm-up before the interactive or pipe mode reads its first line, or before the
+ * server starts.
+ */
+public final class CliOptions {
+    private static final List<String> USAGE = List.of(
+        "Usage:",
+        "  java -jar demoBritishSpokenTime.jar                          Interactive mode (pipe mode without a terminal)",
+        "  java -jar demoBritishSpokenTime.jar --pipe                   Filter stdin to stdout, one time per line",
+        "  java -jar demoBritishSpokenTime.jar <time>...                Convert the given times and exit",
+        "  java -jar demoBritishSpokenTime.jar --in <file> --out <file> Convert a file, one time per line",
+        "  java -jar demoBritishSpokenTime.jar --serve                  Serve GET and POST /convert over HTTP",
+        "  java -jar demoBritishSpokenTime.jar --tcp                    Serve one time per line over plain TCP",
+        "",
+        "Batch options:",
+        "  --buffer-size <bytes>  I/O buffer size and maximum line length (default 1048576)",
+        "  --mmap                 Memory-map the input instead of streaming it (local files)",
+        "  --window-size <bytes>  Mapped window size and maximum line length with --mmap (default 67108864)",
+        "  --parallel             Convert newline-aligned partitions in parallel (memory-mapped)",
+        "  --partitions <n>       Partition count for --parallel (default: available processors)",
+        "",
+        "Server options:",
+        "  --host <address>       Address to bind (default localhost)",
+        "  --port <n>             Port to listen on (default 8080)",
+        "  --executor <kind>      fixed (default) or virtual (needs a -Pjava21 build on Java 21+)",
+        "  --threads <n>          Threads of the fixed executor (default: available processors)",
+        "  --event-loops <n>      Selector threads of the TCP server (default: half the available processors)",
+        "  --binary               Binary protocol on the TCP server: 16-bit minutes in, 16-bit phrase ids out",
+        "",
+        "Interactive, pipe and server options:",
+        "  --warmup                  Warm up the JIT before reading input, report first-call vs warmed latency",
+        "  --warmup-iterations <n>   Iteration budget of the warm-up (default 50000)",
+        "  --warmup-millis <ms>      Time budget of the warm-up (default 2000)"
+    );
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    private static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+    private static final String DEFAULT_HOST = "localhost";
+    private static final int DEFAULT_PORT = 8080;
+    private static final int MAX_PORT = 0xFFFF;
+
+    private final List<String> times = new ArrayList<>();
+    private boolean pipe;
+    private Path input;
+    private Path output;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private boolean mapped;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private boolean parallel;
+    private int partitions = Runtime.getRuntime().availableProcessors();
+    private boolean serve;
+    private String host = DEFAULT_HOST;
+    private int port = DEFAULT_PORT;
+    private String executor = ServerExecutors.FIXED;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean tcp;
+    private boolean binary;
+    private int eventLoops = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private boolean warmup;
+    private int warmupIterations = Warmup.DEFAULT_MAX_ITERATIONS;
+    private long warmupMillis = Warmup.DEFAULT_TIME_BUDGET_MILLIS;
+
+    private CliOptions() {
+    }
+
+    /**
+     * Parses the arguments passed to main.
+     *
+     * @param args command-line arguments
+     * @return parsed options
+     * @throws IllegalArgumentException for unknown options, missing values or inconsistent combinations
+     */
+    public static CliOptions parse(String... args) {
+        CliOptions options = new CliOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--pipe":
+                    options.pipe = true;
+                    break;
+                case "--in":
+                    options.input = Path.of(value(args, ++i, arg));
+                    break;
+                case "--out":
+                    options.output = Path.of(value(args, ++i, arg));
+                    break;
+                case "--buffer-size":
+                    options.bufferSize = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--mmap":
+                    options.mapped = true;
+                    break;
+                case "--window-size":
+                    options.windowSize = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--parallel":
+                    options.parallel = true;
+                    break;
+                case "--partitions":
+                    options.parallel = true;
+                    options.partitions = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--serve":
+                    options.serve = true;
+                    break;
+                case "--host":
+                    options.serve = true;
+                    options.host = value(args, ++i, arg);
+                    break;
+                case "--port":
+                    options.serve = true;
+                    options.port = port(value(args, ++i, arg), arg);
+                    break;
+                case "--executor":
+                    options.serve = true;
+                    options.executor = value(args, ++i, arg);
+                    if (!ServerExecutors.FIXED.equals(options.executor) && !ServerExecutors.VIRTUAL.equals(options.executor)) {
+                        throw new IllegalArgumentException("--executor must be fixed or virtual, got: " + options.executor);
+                    }
+                    break;
+                case "--threads":
+                    options.serve = true;
+                    options.threads = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--tcp":
+                    options.serve = true;
+                    options.tcp = true;
+                    break;
+                case "--event-loops":
+                    options.serve = true;
+                    options.tcp = true;
+                    options.eventLoops = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--binary":
+                    options.serve = true;
+                    options.tcp = true;
+                    options.binary = true;
+                    break;
+                case "--warmup":
+                    options.warmup = true;
+                    break;
+                case "--warmup-iterations":
+                    options.warmup = true;
+                    options.warmupIterations = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--warmup-millis":
+                    options.warmup = true;
+                    options.warmupMillis = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                default:
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    options.times.add(arg);
+                    break;
+            }
+        }
+        if ((options.input == null) != (options.output == null)) {
+            throw new IllegalArgumentException("--in and --out must be used together");
+        }
+        if (!options.times.isEmpty() && (options.pipe || options.input != null)) {
+            throw new IllegalArgumentException("Time arguments cannot be combined with --pipe, --in or --out");
+        }
+        if (options.serve && (options.pipe || options.input != null || !options.times.isEmpty())) {
+            throw new IllegalArgumentException("--serve cannot be combined with --pipe, --in, --out or time arguments");
+        }
+        if (options.warmup && (!options.times.isEmpty() || options.input != null)) {
+            throw new IllegalArgumentException("--warmup applies to the interactive, pipe and server modes only");
+        }
+        return options;
+    }
+
+    public static String usage() {
+        return String.join(System.lineSeparator(), USAGE);
+    }
+
+    public boolean isBatch() {
+        return input != null;
+    }
+
+    public boolean isOneShot() {
+        return !times.isEmpty();
+    }
+
+    public List<String> getTimes() {
+        return Collections.unmodifiableList(times);
+    }
+
+    public boolean isPipe() {
+        return pipe;
+    }
+
+    public Path getInput() {
+        return input;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public boolean isServe() {
+        return serve;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getExecutor() {
+        return executor;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public boolean isTcp() {
+        return tcp;
+    }
+
+    public int getEventLoops() {
+        return eventLoops;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    public boolean isWarmup() {
+        return warmup;
+    }
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int positiveInt(String value, String option) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(option + " must be a positive integer, got: " + value);
+    }
+
+    private static int port(String value, String option) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0 && parsed <= MAX_PORT) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(option + " must be between 1 and " + MAX_PORT + ", got: " + value);
+    }
+}
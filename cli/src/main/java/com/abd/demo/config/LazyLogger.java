@@ -0,0 +1,127 @@
+package com.abd.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logger that creates its SLF4J logger on first use instead of at class initialization.
+ * Declared through Lombok's {@code @CustomLog} (see lombok.config) in classes on the one-shot path,
+ * so that a run which logs nothing never initializes Logback.
+ *
+ * Mirrors the subset of the SLF4J Logger API used in this project; the fixed-arity overloads avoid
+ * allocating an argument array on every call.
+ */
+public final class LazyLogger {
+    private final Class<?> type;
+    private volatile Logger delegate;
+
+    private LazyLogger(Class<?> type) {
+        this.type = type;
+    }
+
+    public static LazyLogger getLogger(Class<?> type) {
+        return new LazyLogger(type);
+    }
+
+    /**
+     * Returns whether the SLF4J logger has been created yet.
+     *
+     * @return true once something has been logged
+     */
+    public boolean isInitialized() {
+        return delegate != null;
+    }
+
+    private Logger delegate() {
+        Logger logger = delegate;
+        if (logger == null) {
+            logger = LoggerFactory.getLogger(type);
+            delegate = logger;
+        }
+        return logger;
+    }
+
+    public void trace(String msg) {
+        delegate().trace(msg);
+    }
+
+    public void trace(String format, Object arg) {
+        delegate().trace(format, arg);
+    }
+
+    public void trace(String format, Object arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    public void trace(String format, Object... args) {
+        delegate().trace(format, args);
+    }
+
+    public void debug(String msg) {
+        delegate().debug(msg);
+    }
+
+    public void debug(String format, Object arg) {
+        delegate().debug(format, arg);
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    public void debug(String format, Object... args) {
+        delegate().debug(format, args);
+    }
+
+    public void info(String msg) {
+        delegate().info(msg);
+    }
+
+    public void info(String format, Object arg) {
+        delegate().info(format, arg);
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    public void info(String format, Object... args) {
+        delegate().info(format, args);
+    }
+
+    public void warn(String msg) {
+        delegate().warn(msg);
+    }
+
+    public void warn(String format, Object arg) {
+        delegate().warn(format, arg);
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    public void warn(String format, Object... args) {
+        delegate().warn(format, args);
+    }
+
+    public void error(String msg) {
+        delegate().error(msg);
+    }
+
+    public void error(String msg, Throwable t) {
+        delegate().error(msg, t);
+    }
+
+    public void error(String format, Object arg) {
+        delegate().error(format, arg);
+    }
+
+    public void error(String format, Object arg1, Object arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    public void error(String format, Object... args) {
+        delegate().error(format, args);
+    }
+}
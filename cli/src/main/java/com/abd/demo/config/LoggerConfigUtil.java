@@ -6,6 +6,9 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME;
 
 /**
@@ -46,14 +49,29 @@ public class LoggerConfigUtil {
      * Call this at application startup.
      */
     public static void initializeConsoleLogging() {
-        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
-        Logger rootLogger = loggerContext.getLogger(ROOT_LOGGER_NAME);
-
-        // Cache the console appender reference
-        consoleAppenderCache = rootLogger.getAppender(CONSOLE_APPENDER_NAME);
+        // Detach and cache the console appender first, unless an earlier call already did,
+        // so that nothing logged while the configuration loads reaches the console
+        setConsoleLoggingEnabled(false);
 
         // Apply initial configuration
         boolean enabled = AppConfig.getInstance().isConsoleLogsEnabled();
         setConsoleLoggingEnabled(enabled);
     }
+
+    /**
+     * Detach every appender of the root logger until the returned action runs, which attaches them again.
+     * Levels stay as configured, so code that checks them takes the same paths as usual; events are just
+     * not written anywhere. Used while synthetic input is processed, e.g. during the JIT warm-up.
+     *
+     * @return action restoring the detached appenders
+     */
+    public static Runnable detachAppenders() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger rootLogger = loggerContext.getLogger(ROOT_LOGGER_NAME);
+
+        List<Appender<ILoggingEvent>> detached = new ArrayList<>();
+        rootLogger.iteratorForAppenders().forEachRemaining(detached::add);
+        detached.forEach(rootLogger::detachAppender);
+        return () -> detached.forEach(rootLogger::addAppender);
+    }
 }
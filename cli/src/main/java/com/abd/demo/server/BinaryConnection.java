@@ -0,0 +1,95 @@
+package com.abd.demo.server;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Connection of the binary protocol, for clients that already hold times as numbers. All numbers are unsigned
+ * 16-bit big-endian.
+ * - Request: a count n, then n minutes of the day (0 to 1439).
+ * - Response: the same count n, then n phrase ids of {@link PhraseDictionary}, in request order;
+ *   {@link PhraseDictionary#ERROR_ID} for a value that is not a minute of the day.
+ * - A request with a count of 0 asks for the dictionary: the response is the count 0 followed by the encoded
+ *   dictionary. A client sends it first on a connection and then never receives phrase text again.
+ *
+ * Answers are written while the request is still arriving, so a batch may be as large as the count allows
+ * whatever the buffer sizes. Translating a value is one table lookup, with no parsing and no allocation.
+ */
+final class BinaryConnection extends Connection {
+    static final int BUFFER_SIZE = 16 << 10;
+
+    private final char[] ids;
+    private final byte[] dictionary;
+    /** Values of the current request not answered yet; 0 between requests. */
+    private int remaining;
+    /** Next dictionary byte to write, or -1 when no dictionary is being written. */
+    private int dictionaryOffset = -1;
+
+    BinaryConnection(SocketChannel channel, SelectionKey key, PhraseDictionary phrases) {
+        super(channel, key, BUFFER_SIZE, BUFFER_SIZE);
+        this.ids = phrases.idsByMinute();
+        this.dictionary = phrases.encoded();
+    }
+
+    @Override
+    protected boolean answer() {
+        in.flip();
+        boolean full;
+        while (true) {
+            if (dictionaryOffset >= 0 && !writeDictionary()) {
+                full = true;
+                break;
+            }
+            if (remaining == 0) {
+                if (in.remaining() < Character.BYTES || out.remaining() < Character.BYTES) {
+                    full = in.remaining() >= Character.BYTES;
+                    break;
+                }
+                remaining = in.getChar();
+                out.putChar((char) remaining);
+                if (remaining == 0) {
+                    dictionaryOffset = 0;
+                }
+                continue;
+            }
+            int count = Math.min(remaining, Math.min(in.remaining(), out.remaining()) / Character.BYTES);
+            if (count == 0) {
+                full = out.remaining() < Character.BYTES;
+                break;
+            }
+            translate(in, out, count);
+            remaining -= count;
+        }
+        in.compact();
+        return full;
+    }
+
+    /**
+     * Copies as much of the dictionary as fits.
+     *
+     * @return true if the dictionary is complete
+     */
+    private boolean writeDictionary() {
+        int length = Math.min(out.remaining(), dictionary.length - dictionaryOffset);
+        out.put(dictionary, dictionaryOffset, length);
+        dictionaryOffset += length;
+        if (dictionaryOffset < dictionary.length) {
+            return false;
+        }
+        dictionaryOffset = -1;
+        return true;
+    }
+
+    private void translate(ByteBuffer in, ByteBuffer out, int count) {
+        char[] table = ids;
+        int from = in.position();
+        int to = out.position();
+        for (int i = 0; i < count * Character.BYTES; i += Character.BYTES) {
+            int minuteOfDay = in.getChar(from + i);
+            out.putChar(to + i, minuteOfDay < table.length ? table[minuteOfDay] : (char) PhraseDictionary.ERROR_ID);
+        }
+        in.position(from + count * Character.BYTES);
+        out.position(to + count * Character.BYTES);
+    }
+}
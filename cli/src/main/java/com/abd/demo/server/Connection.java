@@ -0,0 +1,108 @@
+package com.abd.demo.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * One client of the {@link TcpConversionServer}: its channel, its read and write buffers and its protocol state.
+ * Used only by the event loop that owns the connection; subclasses implement the protocol in {@link #answer()}.
+ *
+ * Both buffers are direct, allocated on the first read and reused for the life of the connection, so a connection
+ * that is open but idle costs no buffer memory. Everything answerable in the read buffer is answered before
+ * anything is written, and all the answers go out in one write (pipelining). When the client reads slower than it
+ * sends, the write buffer fills; the connection then stops reading until it has drained.
+ */
+abstract class Connection {
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final int readBufferSize;
+    private final int writeBufferSize;
+    /** Received bytes not answered yet, in write mode between events. */
+    protected ByteBuffer in;
+    /** Answers not written yet, in write mode. */
+    protected ByteBuffer out;
+    private boolean endOfInput;
+
+    Connection(SocketChannel channel, SelectionKey key, int readBufferSize, int writeBufferSize) {
+        this.channel = channel;
+        this.key = key;
+        this.readBufferSize = readBufferSize;
+        this.writeBufferSize = writeBufferSize;
+    }
+
+    /**
+     * Reads what the client sent, answers what it can and writes the answers.
+     *
+     * @throws IOException if the channel fails; the caller closes the connection
+     */
+    final void onReadable() throws IOException {
+        if (in == null) {
+            in = ByteBuffer.allocateDirect(readBufferSize);
+            out = ByteBuffer.allocateDirect(writeBufferSize);
+        }
+        if (channel.read(in) < 0) {
+            // the client is done sending: answer what is left, then close once it is written
+            endOfInput = true;
+        }
+        answerAndFlush();
+    }
+
+    /**
+     * Writes pending answers; once they are all out, answers what was left in the read buffer.
+     */
+    final void onWritable() throws IOException {
+        flush();
+        if (out.position() == 0) {
+            answerAndFlush();
+        }
+    }
+
+    final void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // closing anyway
+        }
+    }
+
+    /**
+     * Returns whether the client has shut down its side; what is left in the read buffer is then all there is.
+     */
+    protected final boolean isEndOfInput() {
+        return endOfInput;
+    }
+
+    /**
+     * Answers from {@link #in} into {@link #out}, both in write mode, while the write buffer has room.
+     *
+     * @return true if answering stopped because the write buffer was full, with input possibly left
+     */
+    protected abstract boolean answer();
+
+    private void answerAndFlush() throws IOException {
+        boolean full;
+        do {
+            full = answer();
+            flush();
+        } while (full && out.position() == 0);
+        if (endOfInput && out.position() == 0) {
+            close();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (out.position() > 0) {
+            out.flip();
+            channel.write(out);
+            out.compact();
+        }
+        // wait for the client to drain what could not be written before reading more
+        int interest = out.position() > 0 ? SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        if (key.interestOps() != interest) {
+            key.interestOps(interest);
+        }
+    }
+}
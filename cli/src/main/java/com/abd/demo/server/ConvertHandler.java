@@ -0,0 +1,190 @@
+package com.abd.demo.server;
+
+import com.abd.demo.adapter.InputSource;
+import com.abd.demo.adapter.LineTooLongException;
+import com.abd.demo.adapter.Messages;
+import com.abd.demo.adapter.StreamInputSource;
+import com.abd.demo.domain.exceptions.InvalidTimeException;
+import com.abd.demo.domain.exceptions.InvalidTimeFormatException;
+import com.abd.demo.service.ParseResult;
+import com.abd.demo.service.TimeConverterService;
+import com.abd.demo.service.TimeParser;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Handles {@code /convert}.
+ * - {@code GET /convert?time=7:30} answers with the phrase, or 400 and the error for an invalid time; valid
+ *   lookups are served from {@link PrerenderedResponses}, with a strong ETag and a long Cache-Control, and a
+ *   matching If-None-Match gets a 304 without a body
+ * - {@code POST /convert} takes one time per line and answers with one phrase or error per line, in order;
+ *   blank lines are skipped, as in the pipe mode; uploads over {@link #MAX_BATCH_LINES} lines belong on
+ *   {@link StreamingConvertHandler}
+ *
+ * Every response carries a Content-Length, and the request body is read to its end, so the connection stays open
+ * for the next request (HTTP/1.1 keep-alive); only a batch over {@link #MAX_BATCH_LINES} lines is cut short.
+ * The parser and the table-backed converter are stateless after construction and shared by all exchanges;
+ * nothing is logged per request.
+ */
+class ConvertHandler implements HttpHandler {
+    static final String PATH = "/convert";
+    static final int MAX_BATCH_LINES = 10_000;
+
+    private static final String TIME_PARAMETER = "time=";
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+    private static final List<String> CONTENT_TYPE_HEADER = List.of(CONTENT_TYPE);
+    private static final int BODY_BUFFER_SIZE = 16 << 10;
+
+    private final TimeParser parser;
+    private final TimeConverterService converter;
+    private final PrerenderedResponses responses;
+    private final Messages messages = new Messages();
+
+    ConvertHandler(TimeParser parser, TimeConverterService converter, PrerenderedResponses responses) {
+        this.parser = parser;
+        this.converter = converter;
+        this.responses = responses;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!PATH.equals(exchange.getRequestURI().getPath())) {
+                send(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+                return;
+            }
+            switch (exchange.getRequestMethod()) {
+                case "GET":
+                    convertOne(exchange);
+                    break;
+                case "POST":
+                    convertBatch(exchange);
+                    break;
+                default:
+                    exchange.getResponseHeaders().set("Allow", "GET, POST");
+                    send(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+                    break;
+            }
+        }
+    }
+
+    private void convertOne(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        String time = queryParameter(exchange.getRequestURI().getRawQuery());
+        if (time == null) {
+            send(exchange, 400, messages.formatError("Missing query parameter: time"));
+            return;
+        }
+        int result = parser.parseMinuteOfDay(time);
+        if (!ParseResult.isValid(result)) {
+            String error;
+            try {
+                parser.parse(time); // cold path: throws the detailed exception
+                error = ParseResult.describe(ParseResult.errorCode(result));
+            } catch (InvalidTimeFormatException | InvalidTimeException e) {
+                error = e.getMessage();
+            }
+            send(exchange, 400, messages.formatError(error));
+            return;
+        }
+
+        int minuteOfDay = ParseResult.minuteOfDay(result);
+        Headers headers = exchange.getResponseHeaders();
+        headers.put("ETag", responses.etagHeader(minuteOfDay));
+        headers.put("Cache-Control", PrerenderedResponses.CACHE_CONTROL);
+        if (responses.notModified(minuteOfDay, exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        byte[] body = responses.body(minuteOfDay);
+        headers.put("Content-Type", CONTENT_TYPE_HEADER);
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private void convertBatch(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int lines = 0;
+        try (InputSource input = new StreamInputSource(exchange.getRequestBody(), BODY_BUFFER_SIZE,
+                InputSource.DEFAULT_MAX_LINE_LENGTH)) {
+            while (lines <= MAX_BATCH_LINES) {
+                String result;
+                try {
+                    String line = input.readLine();
+                    if (line == null) {
+                        break;
+                    }
+                    line = line.trim();
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    result = convertLine(line);
+                } catch (LineTooLongException e) {
+                    result = messages.formatError(e.getMessage());
+                }
+                if (++lines <= MAX_BATCH_LINES) {
+                    writeLine(body, result);
+                }
+            }
+        }
+        if (lines > MAX_BATCH_LINES) {
+            // the rest of the body is not read; the server closes the connection after this response
+            send(exchange, 413, messages.formatError(
+                "Batch exceeds " + MAX_BATCH_LINES + " lines; use " + StreamingConvertHandler.PATH));
+            return;
+        }
+        send(exchange, 200, body.toByteArray());
+    }
+
+    private String convertLine(String line) {
+        try {
+            return converter.convert(parser.parse(line));
+        } catch (InvalidTimeFormatException | InvalidTimeException e) {
+            return messages.formatError(e.getMessage());
+        }
+    }
+
+    private static void writeLine(ByteArrayOutputStream body, String line) {
+        body.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+        body.write('\n');
+    }
+
+    /**
+     * Returns the decoded value of the first {@code time} parameter, or null if there is none.
+     */
+    static String queryParameter(String rawQuery) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            if (pair.startsWith(TIME_PARAMETER)) {
+                return URLDecoder.decode(pair.substring(TIME_PARAMETER.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        send(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().put("Content-Type", CONTENT_TYPE_HEADER);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.abd.demo.server;
+
+import com.abd.demo.service.TimeConverterService;
+import com.abd.demo.service.TimeParser;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP conversion service on the JDK's built-in {@link HttpServer}, without further dependencies.
+ * Serves {@code /convert} (see {@link ConvertHandler}) and {@code /convert/stream} (see
+ * {@link StreamingConvertHandler}) from one shared {@link TimeParser}, one shared table-backed
+ * {@link TimeConverterService} and the {@link PrerenderedResponses} built from it.
+ * Exchanges run on the executor passed in, see {@link ServerExecutors}.
+ *
+ * Connections are kept alive between requests; the JDK server closes them after an idle period,
+ * tunable with the {@code sun.net.httpserver.idleInterval} system property (seconds).
+ *
+ * The JDK server writes the response headers and the body separately. With Nagle's algorithm on, the body of
+ * a keep-alive response then waits for the client's delayed ACK, about 40 ms per request, so TCP_NODELAY is
+ * switched on ({@code sun.net.httpserver.nodelay}) unless the property has been set explicitly.
+ */
+public final class HttpConversionServer implements AutoCloseable {
+    private static final int BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // read once by the JDK server, when the first server is created
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private HttpConversionServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Binds and starts a server.
+     *
+     * @param address address to bind; port 0 picks a free port, see {@link #getAddress()}
+     * @param executor runs the exchanges; shut down when the server is closed
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static HttpConversionServer start(InetSocketAddress address, ExecutorService executor) throws IOException {
+        HttpServer server = HttpServer.create(address, BACKLOG);
+        TimeParser parser = new TimeParser();
+        TimeConverterService converter = TimeConverterService.precomputed();
+        PrerenderedResponses responses = PrerenderedResponses.build(converter);
+        server.createContext(ConvertHandler.PATH, new ConvertHandler(parser, converter, responses));
+        server.createContext(StreamingConvertHandler.PATH, new StreamingConvertHandler(parser, responses));
+        server.setExecutor(executor);
+        server.start();
+        return new HttpConversionServer(server, executor);
+    }
+
+    /**
+     * @return the bound address, with the actual port
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting connections, gives exchanges in flight up to a second to finish and shuts the executor down.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.abd.demo.server;
+
+import com.abd.demo.service.ParseResult;
+import com.abd.demo.service.PhraseTable;
+import com.abd.demo.service.TimeParser;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Connection of the line protocol: one time per line in, one answer line per time out, in order. Blank lines are
+ * skipped, a CR before the newline is ignored and a last line without a newline is answered when the client shuts
+ * its side down. A line longer than {@link #MAX_LINE_LENGTH} bytes is answered with one error and dropped.
+ *
+ * Answering a line allocates nothing: the time is parsed in place with
+ * {@link TimeParser#parseMinuteOfDay(ByteBuffer, int, int)} and the answer is copied from pre-rendered bytes,
+ * the phrase from {@link PrerenderedResponses} or the constant message of the parse error code.
+ */
+final class LineConnection extends Connection {
+    static final int READ_BUFFER_SIZE = 1 << 10;
+    static final int WRITE_BUFFER_SIZE = 8 << 10;
+    static final int MAX_LINE_LENGTH = READ_BUFFER_SIZE - 2;
+
+    private static final byte[][] ERRORS = createErrors();
+    private static final byte[] LINE_TOO_LONG = errorLine("Line exceeds " + MAX_LINE_LENGTH + " bytes");
+
+    private final TimeParser parser;
+    private final PrerenderedResponses responses;
+    private final int maxAnswerLength;
+    private boolean discarding;
+
+    LineConnection(SocketChannel channel, SelectionKey key, TimeParser parser, PrerenderedResponses responses,
+                   int maxAnswerLength) {
+        super(channel, key, READ_BUFFER_SIZE, WRITE_BUFFER_SIZE);
+        this.parser = parser;
+        this.responses = responses;
+        this.maxAnswerLength = maxAnswerLength;
+    }
+
+    /**
+     * Length of the longest answer the connection can write for the given responses, newline included.
+     */
+    static int maxAnswerLength(PrerenderedResponses responses) {
+        int max = LINE_TOO_LONG.length;
+        for (byte[] error : ERRORS) {
+            max = Math.max(max, error.length);
+        }
+        for (int minuteOfDay = 0; minuteOfDay < PhraseTable.MINUTES_PER_DAY; minuteOfDay++) {
+            max = Math.max(max, responses.body(minuteOfDay).length + 1);
+        }
+        return max;
+    }
+
+    /**
+     * Answers complete lines while the write buffer has room for the longest answer.
+     *
+     * @return true if answering stopped because the write buffer was full, with lines possibly left
+     */
+    @Override
+    protected boolean answer() {
+        in.flip();
+        boolean full = true;
+        while (out.remaining() >= maxAnswerLength) {
+            int start = in.position();
+            int newline = indexOfNewline(start, in.limit());
+            if (newline < 0 && isEndOfInput() && in.hasRemaining()) {
+                // last line without a terminator
+                in.position(in.limit());
+                if (!discarding) {
+                    answerLine(start, in.limit() - start);
+                }
+                discarding = false;
+                continue;
+            }
+            if (newline < 0) {
+                if (in.remaining() > MAX_LINE_LENGTH) {
+                    // no room left for the rest of the line: answer now, drop everything up to its newline
+                    if (!discarding) {
+                        out.put(LINE_TOO_LONG);
+                    }
+                    discarding = true;
+                    in.position(in.limit());
+                }
+                full = false;
+                break;
+            }
+            in.position(newline + 1);
+            if (discarding) {
+                discarding = false;
+                continue;
+            }
+            answerLine(start, newline - start);
+        }
+        in.compact();
+        return full;
+    }
+
+    private void answerLine(int offset, int length) {
+        if (length > 0 && in.get(offset + length - 1) == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return; // blank lines are skipped, as in the pipe mode
+        }
+        int result = parser.parseMinuteOfDay(in, offset, length);
+        if (ParseResult.isValid(result)) {
+            out.put(responses.body(ParseResult.minuteOfDay(result)));
+            out.put((byte) '\n');
+        } else {
+            out.put(ERRORS[ParseResult.errorCode(result)]);
+        }
+    }
+
+    private int indexOfNewline(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (in.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[][] createErrors() {
+        byte[][] errors = new byte[ParseResult.UNKNOWN_NOTATION + 1][];
+        for (int code = 0; code < errors.length; code++) {
+            errors[code] = errorLine(ParseResult.describe(code));
+        }
+        return errors;
+    }
+
+    private static byte[] errorLine(String message) {
+        return ("Error: " + message + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,103 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.PhraseTable;
+import com.abd.demo.service.TimeConverterService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Numbers the distinct phrases a {@link TimeConverterService} can produce, for the binary protocol.
+ * Phrase ids follow the natural (UTF-16 code unit) order of the phrases, so they depend only on the set of
+ * phrases: a client can rebuild the same dictionary from the converter's outputs, and the ids stay the same as
+ * long as the phrases do. {@link #ERROR_ID} is reserved and never assigned.
+ *
+ * The dictionary is also pre-rendered as the body of a dictionary response: the phrase count as an unsigned
+ * 16-bit big-endian number, then each phrase in id order as one unsigned length byte and its UTF-8 bytes.
+ */
+final class PhraseDictionary {
+    static final int ERROR_ID = 0xFFFF;
+
+    private static final int MAX_PHRASE_LENGTH = 0xFF;
+
+    private final List<String> phrases;
+    private final char[] idByMinute;
+    private final byte[] encoded;
+
+    private PhraseDictionary(List<String> phrases, char[] idByMinute, byte[] encoded) {
+        this.phrases = phrases;
+        this.idByMinute = idByMinute;
+        this.encoded = encoded;
+    }
+
+    /**
+     * Collects, numbers and encodes the phrases of every minute of the day.
+     *
+     * @param converter converter whose phrases are numbered
+     * @return the dictionary
+     * @throws IllegalStateException if a phrase does not fit the encoding
+     */
+    static PhraseDictionary build(TimeConverterService converter) {
+        String[] byMinute = new String[PhraseTable.MINUTES_PER_DAY];
+        TreeSet<String> distinct = new TreeSet<>();
+        for (int minuteOfDay = 0; minuteOfDay < byMinute.length; minuteOfDay++) {
+            byMinute[minuteOfDay] = converter.convert(Time.ofMinuteOfDay(minuteOfDay));
+            distinct.add(byMinute[minuteOfDay]);
+        }
+        List<String> phrases = List.copyOf(distinct);
+
+        char[] idByMinute = new char[byMinute.length];
+        for (int minuteOfDay = 0; minuteOfDay < byMinute.length; minuteOfDay++) {
+            idByMinute[minuteOfDay] = (char) Collections.binarySearch(phrases, byMinute[minuteOfDay]);
+        }
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        encoded.write(phrases.size() >>> 8);
+        encoded.write(phrases.size());
+        for (String phrase : phrases) {
+            byte[] bytes = phrase.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_PHRASE_LENGTH) {
+                throw new IllegalStateException("Phrase exceeds " + MAX_PHRASE_LENGTH + " bytes: " + phrase);
+            }
+            encoded.write(bytes.length);
+            encoded.writeBytes(bytes);
+        }
+        return new PhraseDictionary(phrases, idByMinute, encoded.toByteArray());
+    }
+
+    /**
+     * @return number of phrases; ids run from 0 to size - 1
+     */
+    int size() {
+        return phrases.size();
+    }
+
+    String phrase(int id) {
+        return phrases.get(id);
+    }
+
+    /**
+     * @return the phrase id of the minute, or {@link #ERROR_ID} if it is not a minute of the day
+     */
+    int id(int minuteOfDay) {
+        return minuteOfDay >= 0 && minuteOfDay < idByMinute.length ? idByMinute[minuteOfDay] : ERROR_ID;
+    }
+
+    /**
+     * @return phrase ids indexed by minute of the day; shared, must not be modified
+     */
+    char[] idsByMinute() {
+        return idByMinute;
+    }
+
+    /**
+     * @return the encoded dictionary; shared, must not be modified
+     */
+    byte[] encoded() {
+        return encoded;
+    }
+}
@@ -0,0 +1,102 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.PhraseTable;
+import com.abd.demo.service.TimeConverterService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The answer to every single-time lookup, rendered once: a lookup can only ever return one of 1440 phrases.
+ * Each minute of the day gets its UTF-8 body and a strong ETag derived from the minute and the body's CRC-32,
+ * so the tag changes whenever the phrase does. Bodies and header values are immutable and shared by all
+ * exchanges; answering a lookup writes them as they are, without converting or encoding anything.
+ *
+ * The status line and the Date and Content-Length headers are written by {@link com.sun.net.httpserver.HttpServer}
+ * itself and cannot be pre-rendered through its API.
+ */
+final class PrerenderedResponses {
+    static final List<String> CACHE_CONTROL = List.of("public, max-age=31536000, immutable");
+
+    private final byte[][] bodies;
+    private final String[] etags;
+    private final List<String>[] etagHeaders;
+
+    @SuppressWarnings("unchecked")
+    private PrerenderedResponses(byte[][] bodies, String[] etags) {
+        this.bodies = bodies;
+        this.etags = etags;
+        this.etagHeaders = new List[etags.length];
+        for (int i = 0; i < etags.length; i++) {
+            etagHeaders[i] = List.of(etags[i]);
+        }
+    }
+
+    /**
+     * Renders the response body and ETag of every minute of the day.
+     *
+     * @param converter converter whose phrases are served
+     * @return the rendered responses
+     */
+    static PrerenderedResponses build(TimeConverterService converter) {
+        byte[][] bodies = new byte[PhraseTable.MINUTES_PER_DAY][];
+        String[] etags = new String[PhraseTable.MINUTES_PER_DAY];
+        CRC32 crc = new CRC32();
+        for (int minuteOfDay = 0; minuteOfDay < bodies.length; minuteOfDay++) {
+            byte[] body = converter.convert(Time.ofMinuteOfDay(minuteOfDay)).getBytes(StandardCharsets.UTF_8);
+            crc.reset();
+            crc.update(body);
+            bodies[minuteOfDay] = body;
+            etags[minuteOfDay] = "\"" + minuteOfDay + "-" + Long.toHexString(crc.getValue()) + "\"";
+        }
+        return new PrerenderedResponses(bodies, etags);
+    }
+
+    /**
+     * @return the shared body for the minute; must not be modified
+     */
+    byte[] body(int minuteOfDay) {
+        return bodies[minuteOfDay];
+    }
+
+    String etag(int minuteOfDay) {
+        return etags[minuteOfDay];
+    }
+
+    /**
+     * @return the ETag header value as a shared immutable list, ready to put into the response headers
+     */
+    List<String> etagHeader(int minuteOfDay) {
+        return etagHeaders[minuteOfDay];
+    }
+
+    /**
+     * Evaluates an If-None-Match header against the minute's ETag, using the weak comparison RFC 9110 prescribes
+     * for it: {@code *} or any listed tag equal to ours, ignoring a {@code W/} prefix, means not modified.
+     *
+     * @param minuteOfDay the requested minute
+     * @param ifNoneMatch header value, or null when absent
+     * @return true if a 304 should be sent
+     */
+    boolean notModified(int minuteOfDay, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String etag = etags[minuteOfDay];
+        if (ifNoneMatch.equals(etag)) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package com.abd.demo.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors the HTTP server can dispatch exchanges on.
+ * - {@code fixed}: a fixed pool of platform threads, by default one per available processor
+ * - {@code virtual}: one virtual thread per exchange; needs a build with {@code -Pjava21}, which compiles
+ *   {@code VirtualThreads} from src/main/java21, running on Java 21 or later
+ */
+public final class ServerExecutors {
+    public static final String FIXED = "fixed";
+    public static final String VIRTUAL = "virtual";
+
+    private static final String VIRTUAL_IMPLEMENTATION = "com.abd.demo.server.VirtualThreads";
+
+    private ServerExecutors() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Creates the executor of the given kind.
+     *
+     * @param kind {@link #FIXED} or {@link #VIRTUAL}
+     * @param threads pool size for {@link #FIXED}; ignored for {@link #VIRTUAL}
+     * @return a new executor, owned by the caller
+     * @throws IllegalArgumentException for an unknown kind
+     * @throws IllegalStateException if virtual threads are not available in this build or runtime
+     */
+    public static ExecutorService create(String kind, int threads) {
+        switch (kind) {
+            case FIXED:
+                return Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+            case VIRTUAL:
+                return virtual();
+            default:
+                throw new IllegalArgumentException("Unknown executor: " + kind + " (expected fixed or virtual)");
+        }
+    }
+
+    /**
+     * Returns whether {@link #VIRTUAL} executors can be created here.
+     */
+    public static boolean isVirtualAvailable() {
+        try {
+            virtual().shutdown();
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService virtual() {
+        try {
+            return (ExecutorService) Class.forName(VIRTUAL_IMPLEMENTATION).getMethod("newExecutor").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Virtual threads need a -Pjava21 build running on Java 21 or later", e);
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            return new Thread(task, "http-worker-" + count.incrementAndGet());
+        }
+    }
+}
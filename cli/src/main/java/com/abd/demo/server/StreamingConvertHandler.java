@@ -0,0 +1,135 @@
+package com.abd.demo.server;
+
+import com.abd.demo.adapter.InputSource;
+import com.abd.demo.adapter.LineTooLongException;
+import com.abd.demo.adapter.Messages;
+import com.abd.demo.adapter.StreamInputSource;
+import com.abd.demo.domain.exceptions.InvalidTimeException;
+import com.abd.demo.domain.exceptions.InvalidTimeFormatException;
+import com.abd.demo.service.ParseResult;
+import com.abd.demo.service.TimeParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Handles {@code POST /convert/stream}: converts an upload of any size, one time per line, streaming the results
+ * back with chunked transfer encoding while the upload is still being read.
+ *
+ * Memory stays bounded by two fixed buffers, however large the upload: the request body is read incrementally
+ * through a {@link StreamInputSource}, and results go to the server's chunked output stream, which emits a chunk
+ * whenever its buffer fills. Before a read that would block on the client, pending results are flushed, so a
+ * client that trickles lines in gets each answer without waiting for the rest of the upload.
+ *
+ * Valid lines are answered with the pre-rendered phrase bytes of {@link PrerenderedResponses}; invalid ones get an
+ * inline {@code Error: ...} line with the parser's message, and the stream carries on with the next line. Blank
+ * lines are skipped, as in the pipe mode.
+ */
+class StreamingConvertHandler implements HttpHandler {
+    static final String PATH = "/convert/stream";
+
+    private static final List<String> CONTENT_TYPE_HEADER = List.of("text/plain; charset=utf-8");
+    private static final int BODY_BUFFER_SIZE = 16 << 10;
+
+    private final TimeParser parser;
+    private final PrerenderedResponses responses;
+    private final Messages messages = new Messages();
+
+    StreamingConvertHandler(TimeParser parser, PrerenderedResponses responses) {
+        this.parser = parser;
+        this.responses = responses;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!PATH.equals(exchange.getRequestURI().getPath())) {
+                reject(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                reject(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+                return;
+            }
+            exchange.getResponseHeaders().put("Content-Type", CONTENT_TYPE_HEADER);
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            try (InputSource input = new FlushingInputSource(exchange.getRequestBody(), out)) {
+                convert(input, out);
+            }
+            out.flush();
+        }
+    }
+
+    private void convert(InputSource input, OutputStream out) throws IOException {
+        while (true) {
+            String line;
+            try {
+                line = input.readLine();
+            } catch (LineTooLongException e) {
+                writeLine(out, messages.formatError(e.getMessage()));
+                continue;
+            }
+            if (line == null) {
+                return;
+            }
+            int result = parser.parseMinuteOfDay(line);
+            if (ParseResult.isValid(result)) {
+                out.write(responses.body(ParseResult.minuteOfDay(result)));
+                out.write('\n');
+            } else if (!line.isBlank()) {
+                writeLine(out, messages.formatError(describe(line, result)));
+            }
+        }
+    }
+
+    private String describe(String line, int result) {
+        try {
+            parser.parse(line); // cold path: throws the detailed exception
+            return ParseResult.describe(ParseResult.errorCode(result));
+        } catch (InvalidTimeFormatException | InvalidTimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void writeLine(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    private static void reject(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().put("Content-Type", CONTENT_TYPE_HEADER);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * Request body source that flushes the pending results before it reads with nothing buffered by the server,
+     * i.e. before a read that would wait for the client.
+     */
+    private static final class FlushingInputSource extends StreamInputSource {
+        private final InputStream in;
+        private final OutputStream out;
+
+        FlushingInputSource(InputStream in, OutputStream out) {
+            super(in, BODY_BUFFER_SIZE, InputSource.DEFAULT_MAX_LINE_LENGTH);
+            this.in = in;
+            this.out = out;
+        }
+
+        @Override
+        protected int read(byte[] b, int off, int len) throws IOException {
+            if (in.available() == 0) {
+                out.flush();
+            }
+            return super.read(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.abd.demo.server;
+
+import com.abd.demo.service.TimeConverterService;
+import com.abd.demo.service.TimeParser;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plain TCP conversion service, speaking one of two protocols over connections the client keeps open as long as
+ * it likes. Requests may be pipelined, many in one write, without waiting for the answers.
+ * - {@link Protocol#LINE}: one time per line in, one answer line per time out; see {@link LineConnection}
+ * - {@link Protocol#BINARY}: batches of 16-bit minutes of the day in, 16-bit phrase ids out; see
+ *   {@link BinaryConnection}
+ *
+ * A single acceptor thread hands new connections round-robin to a fixed number of event loops, each a thread with
+ * its own {@link Selector} that serves all its connections without blocking. Thread count is therefore independent
+ * of the number of connections, and there is no per-request dispatch or executor hand-off. All loops share the tables
+ * built once at startup from one table-backed {@link TimeConverterService}.
+ */
+public final class TcpConversionServer implements AutoCloseable {
+    private static final long ACCEPT_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Wire protocol of a server; all its connections speak the same one.
+     */
+    public enum Protocol {
+        LINE,
+        BINARY
+    }
+
+    private final ServerSocketChannel serverChannel;
+    private final EventLoop[] loops;
+    private final Thread acceptor;
+
+    private TcpConversionServer(ServerSocketChannel serverChannel, EventLoop[] loops) {
+        this.serverChannel = serverChannel;
+        this.loops = loops;
+        this.acceptor = new Thread(this::accept, "tcp-acceptor");
+    }
+
+    /**
+     * Binds and starts a server.
+     *
+     * @param address address to bind; port 0 picks a free port, see {@link #getAddress()}
+     * @param eventLoops number of event loop threads
+     * @param protocol protocol of the connections
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static TcpConversionServer start(InetSocketAddress address, int eventLoops, Protocol protocol)
+            throws IOException {
+        if (eventLoops < 1) {
+            throw new IllegalArgumentException("eventLoops must be positive, got: " + eventLoops);
+        }
+        ConnectionFactory connections = connectionFactory(protocol);
+
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        EventLoop[] loops = new EventLoop[eventLoops];
+        try {
+            serverChannel.bind(address);
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new EventLoop("tcp-loop-" + (i + 1), connections);
+            }
+        } catch (IOException e) {
+            for (EventLoop loop : loops) {
+                if (loop != null) {
+                    loop.closeSelector();
+                }
+            }
+            serverChannel.close();
+            throw e;
+        }
+        TcpConversionServer server = new TcpConversionServer(serverChannel, loops);
+        for (EventLoop loop : loops) {
+            loop.thread.start();
+        }
+        server.acceptor.start();
+        return server;
+    }
+
+    private static ConnectionFactory connectionFactory(Protocol protocol) {
+        TimeConverterService converter = TimeConverterService.precomputed();
+        if (protocol == Protocol.BINARY) {
+            PhraseDictionary phrases = PhraseDictionary.build(converter);
+            return (channel, key) -> new BinaryConnection(channel, key, phrases);
+        }
+        TimeParser parser = new TimeParser();
+        PrerenderedResponses responses = PrerenderedResponses.build(converter);
+        int maxAnswerLength = LineConnection.maxAnswerLength(responses);
+        return (channel, key) -> new LineConnection(channel, key, parser, responses, maxAnswerLength);
+    }
+
+    /**
+     * @return the bound address, with the actual port
+     */
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new IllegalStateException("Server is closed", e);
+        }
+    }
+
+    /**
+     * Stops accepting, closes every connection and waits for the threads to end.
+     */
+    @Override
+    public void close() {
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            // stopping anyway
+        }
+        LockSupport.unpark(acceptor); // cut a retry pause short
+        for (EventLoop loop : loops) {
+            loop.stop();
+        }
+        try {
+            acceptor.join();
+            for (EventLoop loop : loops) {
+                loop.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept() {
+        int next = 0;
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (AsynchronousCloseException e) {
+                return; // closed
+            } catch (IOException e) {
+                if (!serverChannel.isOpen()) {
+                    return;
+                }
+                // e.g. out of file descriptors: keep serving the connections we have and retry after a pause,
+                // rather than spinning while the condition lasts
+                LockSupport.parkNanos(ACCEPT_RETRY_NANOS);
+                continue;
+            }
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            } catch (IOException e) {
+                closeQuietly(channel);
+                continue;
+            }
+            loops[next].register(channel);
+            next = (next + 1) % loops.length;
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing left to do
+        }
+    }
+
+    /**
+     * Creates the protocol state of a connection accepted by an event loop.
+     */
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection create(SocketChannel channel, SelectionKey key);
+    }
+
+    /**
+     * One selector thread and the connections registered with it.
+     */
+    private static final class EventLoop {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final ConnectionFactory connections;
+        private volatile boolean running = true;
+
+        EventLoop(String name, ConnectionFactory connections) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this::run, name);
+            this.connections = connections;
+        }
+
+        /**
+         * Hands a connection over from the acceptor; it is registered by the loop's own thread.
+         */
+        void register(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+            if (!running) {
+                closeQuietly(channel);
+            }
+        }
+
+        void stop() {
+            running = false;
+            selector.wakeup();
+        }
+
+        private void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerPending();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        dispatch(key);
+                    }
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                // the loop cannot go on; its connections are closed below
+            } finally {
+                shutDown();
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    key.attach(connections.create(channel, key));
+                } catch (IOException e) {
+                    closeQuietly(channel);
+                }
+            }
+        }
+
+        private static void dispatch(SelectionKey key) {
+            Connection connection = (Connection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    connection.onReadable();
+                } else if (key.isWritable()) {
+                    connection.onWritable();
+                }
+            } catch (IOException e) {
+                // reset or broken by the client
+                connection.close();
+            }
+        }
+
+        private void shutDown() {
+            for (SelectionKey key : selector.keys()) {
+                ((Connection) key.attachment()).close();
+            }
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                closeQuietly(channel);
+            }
+            closeSelector();
+        }
+
+        private void closeSelector() {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // closing anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.abd.demo.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread executor, compiled only by the java21 profile (mvn -Pjava21 package).
+ * Loaded reflectively by {@link ServerExecutors}, so the default Java 17 build neither needs nor references it.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static ExecutorService newExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-virtual-", 1).factory());
+    }
+}
@@ -0,0 +1,13 @@
+@echo off
+rem Launcher for the British Spoken Time Converter.
+rem Uses the class data sharing archive built next to the jar, when present, to cut startup time.
+rem Extra JVM options can be passed in JAVA_OPTS.
+set "DIR=%~dp0"
+set "JAR=%DIR%${project.build.finalName}.jar"
+set "ARCHIVE=%DIR%${project.build.finalName}.jsa"
+
+if exist "%ARCHIVE%" (
+    java -XX:SharedArchiveFile="%ARCHIVE%" -Xshare:auto %JAVA_OPTS% -jar "%JAR%" %*
+) else (
+    java %JAVA_OPTS% -jar "%JAR%" %*
+)
@@ -0,0 +1,12 @@
+#!/bin/sh
+# Launcher for the British Spoken Time Converter.
+# Uses the class data sharing archive built next to the jar, when present, to cut startup time.
+# Extra JVM options can be passed in JAVA_OPTS.
+dir=$(cd "$(dirname "$0")" && pwd)
+jar="$dir/${project.build.finalName}.jar"
+archive="$dir/${project.build.finalName}.jsa"
+
+if [ -f "$archive" ]; then
+    exec java -XX:SharedArchiveFile="$archive" -Xshare:auto $JAVA_OPTS -jar "$jar" "$@"
+fi
+exec java $JAVA_OPTS -jar "$jar" "$@"
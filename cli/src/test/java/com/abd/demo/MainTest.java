@@ -1,14 +1,23 @@
 package com.abd.demo;
 
+import com.abd.demo.adapter.ArrayInputSource;
+import com.abd.demo.adapter.InputSource;
 import com.abd.demo.adapter.OutputAdapter;
+import com.abd.demo.adapter.PipeAdapter;
+import com.abd.demo.config.CliOptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,6 +57,40 @@ public class MainTest {
         }
     }
 
+    @Test
+    @DisplayName("Should run batch mode for --in and --out")
+    public void testExecuteBatchMode(@TempDir Path directory) throws IOException {
+        Path input = Files.writeString(directory.resolve("in.txt"), "12:00\n9:30\n");
+        Path output = directory.resolve("out.txt");
+
+        int status = Main.execute(new String[]{"--in", input.toString(), "--out", output.toString()});
+
+        assertEquals(0, status);
+        assertEquals("noon\nhalf past nine\n", Files.readString(output));
+
+        assertEquals(0, Main.execute(new String[]{"--in", input.toString(), "--out", output.toString(), "--mmap"}));
+        assertEquals("noon\nhalf past nine\n", Files.readString(output));
+
+        assertEquals(0, Main.execute(new String[]{"--in", input.toString(), "--out", output.toString(),
+            "--partitions", "2"}));
+        assertEquals("noon\nhalf past nine\n", Files.readString(output));
+    }
+
+    @Test
+    @DisplayName("Should fail with status 1 when the batch input is missing")
+    public void testExecuteBatchModeMissingInput(@TempDir Path directory) {
+        int status = Main.execute(new String[]{"--in", directory.resolve("missing.txt").toString(),
+            "--out", directory.resolve("out.txt").toString()});
+
+        assertEquals(1, status);
+    }
+
+    @Test
+    @DisplayName("Should fail with status 2 for invalid arguments")
+    public void testExecuteInvalidArguments() {
+        assertEquals(2, Main.execute(new String[]{"--unknown"}));
+    }
+
     @Test
     @DisplayName("Should construct Main with default OutputAdapter")
     public void testDefaultConstructor() {
@@ -84,6 +127,53 @@ public class MainTest {
         }
     }
 
+    @Test
+    @DisplayName("Should filter piped input until end of input without prompt or banner")
+    public void testRunPipeMode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Main pipe = new Main(new PipeAdapter(bytes));
+
+        pipe.run(new ArrayInputSource("12:00\n\n 9:30 \n25:00\n"));
+
+        assertEquals("noon\nhalf past nine\nError: Hours must be between 0 and 23, got: 25\n",
+            bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should convert time arguments in one shot and report invalid ones")
+    public void testRunOneShot() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        assertEquals(0, Main.runOneShot(List.of("7:30", "14:45"), new PipeAdapter(bytes)));
+        assertEquals("half past seven\nquarter to three\n", bytes.toString(StandardCharsets.UTF_8));
+
+        bytes.reset();
+        assertEquals(1, Main.runOneShot(List.of("25:00", "0:00"), new PipeAdapter(bytes)));
+        assertEquals("Error: Hours must be between 0 and 23, got: 25\nmidnight\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should signal readiness with the warm-up report")
+    public void testWarmUp() {
+        ByteArrayOutputStream ready = new ByteArrayOutputStream();
+
+        Warmup.Report report = Main.warmUp(CliOptions.parse("--warmup-iterations", "500"), ready);
+
+        assertEquals(500, report.getIterations());
+        assertEquals(report.format() + "\n", ready.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should report overlong lines and continue with the next line")
+    public void testRunSkipsOverlongLine() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Main pipe = new Main(new PipeAdapter(bytes));
+
+        pipe.run(new ArrayInputSource(("12:00\n" + "9".repeat(100) + "\n9:30\n").getBytes(StandardCharsets.UTF_8), 16));
+
+        assertEquals("noon\nError: Line exceeds 16 bytes\nhalf past nine\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+
     /**
      * Test OutputAdapter implementation that captures all method calls
      * for verification in tests.
@@ -146,7 +236,7 @@ public class MainTest {
         }
 
         @Override
-        public String readInput(Scanner scanner) {
+        public String readInput(InputSource input) {
             if (inputIndex < inputs.size()) {
                 return inputs.get(inputIndex++);
             }
@@ -0,0 +1,51 @@
+package com.abd.demo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Startup cost of the one-shot mode, measured as classes loaded by a fresh JVM.
+ * The bound leaves headroom over the ~700 classes loaded today; a run that initializes
+ * Logback loads about three times as many.
+ */
+@DisplayName("One-shot Startup Tests")
+class OneShotStartupTest {
+
+    private static final int MAX_LOADED_CLASSES = 900;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should convert time arguments loading few classes and no logging framework")
+    void testOneShotClassLoading() throws IOException, InterruptedException {
+        Path classLog = directory.resolve("classes.log");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        Process process = new ProcessBuilder(java, "-Xlog:class+load=info:file=" + classLog,
+                "-cp", classPath, Main.class.getName(), "7:30", "14:45")
+            .redirectErrorStream(true)
+            .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS), "One-shot run should terminate");
+
+        assertEquals(0, process.exitValue(), output);
+        assertEquals("half past seven\nquarter to three\n", output);
+
+        List<String> loaded = Files.readAllLines(classLog);
+        assertTrue(loaded.stream().noneMatch(line -> line.contains("ch.qos.logback") || line.contains("org.slf4j.LoggerFactory")),
+            "One-shot mode should not initialize logging");
+        assertTrue(loaded.size() <= MAX_LOADED_CLASSES,
+            "Loaded " + loaded.size() + " classes, expected at most " + MAX_LOADED_CLASSES);
+    }
+}
@@ -0,0 +1,50 @@
+package com.abd.demo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Warmup Tests")
+class WarmupTest {
+
+    @Test
+    @DisplayName("Should stop at the iteration budget")
+    void testIterationBudget() {
+        Warmup.Report report = new Warmup(2_000, 60_000).run();
+
+        assertEquals(2_000, report.getIterations());
+        assertTrue(report.getElapsedNanos() > 0);
+        assertTrue(report.getFirstCallNanos() > 0);
+        assertTrue(report.getWarmedCallNanos() >= 0);
+    }
+
+    @Test
+    @DisplayName("Should stop at the time budget")
+    void testTimeBudget() {
+        Warmup.Report report = new Warmup(Integer.MAX_VALUE, 50).run();
+
+        assertTrue(report.getIterations() < Integer.MAX_VALUE);
+        assertTrue(report.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(report.getElapsedNanos() < TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    @DisplayName("Should format the report with both latencies")
+    void testFormat() {
+        Warmup.Report report = new Warmup.Report(50_000, 312_400_000L, 1_250_000L, 420L);
+
+        assertEquals("Warm-up done: 50,000 iterations in 312.4 ms; first call 1250.0 us, after warm-up 0.420 us",
+            report.format());
+        assertEquals(report.format(), report.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive budgets")
+    void testInvalidBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> new Warmup(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new Warmup(100, 0));
+    }
+}
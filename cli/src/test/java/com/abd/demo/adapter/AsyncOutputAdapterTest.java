@@ -0,0 +1,223 @@
+package com.abd.demo.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncOutputAdapter Tests")
+class AsyncOutputAdapterTest {
+
+    private AsyncOutputAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write all messages in order through the delegate")
+    void testPreservesOrder() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        adapter = new AsyncOutputAdapter(new PipeAdapter(bytes));
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            adapter.showResult("line " + i);
+            expected.append("line ").append(i).append('\n');
+        }
+        adapter.showError("bad");
+        adapter.flush();
+
+        assertEquals(expected + "Error: bad\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should flush everything before returning from showExit")
+    void testShowExitFlushes() {
+        RecordingAdapter delegate = new RecordingAdapter();
+        adapter = new AsyncOutputAdapter(delegate, 64, 32, Duration.ofSeconds(10), AsyncOutputAdapter.Backpressure.BLOCK);
+
+        adapter.showResult("noon");
+        adapter.showExit();
+
+        assertEquals(List.of("result:noon", "exit", "flush"), delegate.events());
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch after the linger time")
+    void testLingerFlush() throws InterruptedException {
+        RecordingAdapter delegate = new RecordingAdapter();
+        adapter = new AsyncOutputAdapter(delegate, 64, 32, Duration.ofMillis(5), AsyncOutputAdapter.Backpressure.BLOCK);
+
+        adapter.showResult("noon");
+
+        assertTrue(delegate.flushed.await(5, TimeUnit.SECONDS), "Linger should flush a partial batch");
+        assertEquals("result:noon", delegate.events().get(0));
+    }
+
+    @Test
+    @DisplayName("Should block when full and never lose messages")
+    void testBlockBackpressure() {
+        RecordingAdapter delegate = new RecordingAdapter(Duration.ofMillis(1));
+        adapter = new AsyncOutputAdapter(delegate, 4, 2, Duration.ofMillis(1), AsyncOutputAdapter.Backpressure.BLOCK);
+
+        for (int i = 0; i < 50; i++) {
+            adapter.showResult(Integer.toString(i));
+        }
+        adapter.flush();
+
+        assertEquals(50, delegate.events().stream().filter(e -> e.startsWith("result:")).count());
+        assertEquals(0, adapter.getDropped());
+    }
+
+    @Test
+    @DisplayName("Should drop and count messages when full under DROP")
+    void testDropBackpressure() {
+        RecordingAdapter delegate = new RecordingAdapter(Duration.ofMillis(20));
+        adapter = new AsyncOutputAdapter(delegate, 4, 2, Duration.ofMillis(1), AsyncOutputAdapter.Backpressure.DROP);
+
+        for (int i = 0; i < 50; i++) {
+            adapter.showResult(Integer.toString(i));
+        }
+        adapter.showExit();
+
+        long written = delegate.events().stream().filter(e -> e.startsWith("result:")).count();
+        assertTrue(adapter.getDropped() > 0, "Some messages should be dropped");
+        assertEquals(50, written + adapter.getDropped());
+        assertTrue(delegate.events().contains("exit"), "Exit is never dropped");
+    }
+
+    @Test
+    @DisplayName("Should rethrow delegate failures on the producer thread")
+    void testFailurePropagates() {
+        OutputAdapter failing = new RecordingAdapter() {
+            @Override
+            public void flush() {
+                throw new UncheckedIOException(new IOException("Broken pipe"));
+            }
+        };
+        adapter = new AsyncOutputAdapter(failing);
+        adapter.showResult("noon");
+
+        assertThrows(UncheckedIOException.class, adapter::flush);
+        adapter = null;
+    }
+
+    @Test
+    @DisplayName("Should flush before reading from an interactive delegate")
+    void testReadInputFlushesForInteractiveDelegate() throws IOException {
+        RecordingAdapter delegate = new RecordingAdapter();
+        adapter = new AsyncOutputAdapter(delegate, 64, 32, Duration.ofSeconds(10), AsyncOutputAdapter.Backpressure.BLOCK);
+
+        adapter.showResult("noon");
+        assertEquals("12:00", adapter.readInput(new ArrayInputSource("12:00\n")));
+
+        assertEquals(List.of("result:noon", "flush", "read"), delegate.events());
+        assertTrue(adapter.isInteractive());
+    }
+
+    @Test
+    @DisplayName("Should reject batch sizes larger than the capacity")
+    void testInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncOutputAdapter(new RecordingAdapter(), 4, 8,
+            Duration.ofMillis(1), AsyncOutputAdapter.Backpressure.BLOCK));
+    }
+
+    /**
+     * Delegate that records calls, optionally slowing down each message.
+     */
+    private static class RecordingAdapter implements OutputAdapter {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final long delayNanos;
+        final CountDownLatch flushed = new CountDownLatch(1);
+
+        RecordingAdapter() {
+            this(Duration.ZERO);
+        }
+
+        RecordingAdapter(Duration delay) {
+            this.delayNanos = delay.toNanos();
+        }
+
+        List<String> events() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+
+        private void record(String event) {
+            if (delayNanos > 0) {
+                LockSupport.parkNanos(delayNanos);
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void showWelcome() {
+            record("welcome");
+        }
+
+        @Override
+        public void showHelp() {
+            record("help");
+        }
+
+        @Override
+        public void showExit() {
+            record("exit");
+        }
+
+        @Override
+        public void showResult(String result) {
+            record("result:" + result);
+        }
+
+        @Override
+        public void showError(String error) {
+            record("error:" + error);
+        }
+
+        @Override
+        public void showSuccess(String message) {
+            record("success:" + message);
+        }
+
+        @Override
+        public void showInfo(String message) {
+            record("info:" + message);
+        }
+
+        @Override
+        public void showBlankLine() {
+            record("blank");
+        }
+
+        @Override
+        public String readInput(InputSource input) throws IOException {
+            events.add("read");
+            return input.readLine().trim();
+        }
+
+        @Override
+        public void flush() {
+            events.add("flush");
+            flushed.countDown();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.abd.demo.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BufferedInputSource Tests")
+class BufferedInputSourceTest {
+
+    private static final String INPUT = "12:00\n7:15\r\n\n  \n24:00\nabc\n0:00\n 9:45 \n23:59";
+    private static final List<String> LINES = List.of("12:00", "7:15", "", "  ", "24:00", "abc", "0:00", " 9:45 ", "23:59");
+
+    private static List<String> readAll(InputSource source) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line = source.readLine(); line != null; line = source.readLine()) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Stream that returns at most one byte per read, to exercise refills at every position. */
+    private static InputStream trickle(String text) {
+        return new ByteArrayInputStream(bytes(text)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should read the same lines from stream, channel and array")
+    void testImplementationsAgree() throws IOException {
+        assertEquals(LINES, readAll(new StreamInputSource(new ByteArrayInputStream(bytes(INPUT)))));
+        assertEquals(LINES, readAll(new ChannelInputSource(Channels.newChannel(new ByteArrayInputStream(bytes(INPUT))))));
+        assertEquals(LINES, readAll(new ArrayInputSource(INPUT)));
+    }
+
+    @Test
+    @DisplayName("Should assemble lines across partial reads and small buffers")
+    void testPartialReads() throws IOException {
+        assertEquals(LINES, readAll(new StreamInputSource(trickle(INPUT), 1, 8)));
+    }
+
+    @Test
+    @DisplayName("Should decode UTF-8 lines")
+    void testUtf8() throws IOException {
+        assertEquals(List.of("12:00 → noon", "ü"), readAll(new ArrayInputSource("12:00 → noon\nü\n")));
+    }
+
+    @Test
+    @DisplayName("Should skip overlong lines and continue with the next one")
+    void testOverlongLine() throws IOException {
+        String text = "1:00\n" + "x".repeat(50) + "\n2:00\n" + "y".repeat(9) + "\r\n3:00";
+        for (InputSource source : List.of(new StreamInputSource(trickle(text), 4, 8),
+                new ArrayInputSource(bytes(text), 8))) {
+            assertEquals("1:00", source.readLine());
+            LineTooLongException e = assertThrows(LineTooLongException.class, source::readLine);
+            assertEquals(8, e.getMaxLineLength());
+            assertEquals("Line exceeds 8 bytes", e.getMessage());
+            assertEquals("2:00", source.readLine());
+            assertThrows(LineTooLongException.class, source::readLine);
+            assertEquals("3:00", source.readLine());
+            assertNull(source.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept lines of exactly the maximum length")
+    void testMaximumLength() throws IOException {
+        String text = "x".repeat(8) + "\r\n" + "y".repeat(8);
+        assertEquals(List.of("x".repeat(8), "y".repeat(8)), readAll(new StreamInputSource(trickle(text), 1, 8)));
+    }
+
+    @Test
+    @DisplayName("Should report an overlong last line without terminator")
+    void testOverlongLastLine() throws IOException {
+        InputSource source = new StreamInputSource(trickle("z".repeat(20)), 1, 8);
+        assertThrows(LineTooLongException.class, source::readLine);
+        assertNull(source.readLine());
+    }
+
+    @Test
+    @DisplayName("Should expose the remaining lines through a Scanner view")
+    void testScannerBridge() throws IOException {
+        InputSource source = new ArrayInputSource("12:00\n\n9:30\r\n");
+        assertEquals("12:00", source.readLine());
+
+        Scanner scanner = source.asScanner();
+        assertSame(scanner, source.asScanner());
+        assertEquals("", scanner.nextLine());
+        assertEquals("9:30", scanner.nextLine());
+        assertFalse(scanner.hasNextLine());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive maximum line lengths")
+    void testInvalidMaxLineLength() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayInputSource(new byte[0], 0));
+    }
+}
@@ -4,12 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -93,12 +92,12 @@ class ConsoleAdapterTest {
     }
 
     @Test
-    @DisplayName("Should read input from scanner")
-    void testReadInput() {
+    @DisplayName("Should read input from the input source")
+    void testReadInput() throws IOException {
         String input = "13:30\n";
-        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+        InputSource source = new ArrayInputSource(input);
 
-        String result = adapter.readInput(scanner);
+        String result = adapter.readInput(source);
 
         assertEquals("13:30", result);
         assertEquals("> ", adapter.getLastPrompt());
@@ -106,26 +105,32 @@ class ConsoleAdapterTest {
 
     @Test
     @DisplayName("Should trim input when reading")
-    void testReadInputWithWhitespace() {
+    void testReadInputWithWhitespace() throws IOException {
         String input = "  13:30  \n";
-        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+        InputSource source = new ArrayInputSource(input);
 
-        String result = adapter.readInput(scanner);
+        String result = adapter.readInput(source);
 
         assertEquals("13:30", result);
     }
 
     @Test
     @DisplayName("Should handle empty input")
-    void testReadInputEmpty() {
+    void testReadInputEmpty() throws IOException {
         String input = "\n";
-        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+        InputSource source = new ArrayInputSource(input);
 
-        String result = adapter.readInput(scanner);
+        String result = adapter.readInput(source);
 
         assertEquals("", result);
     }
 
+    @Test
+    @DisplayName("Should return null at end of input")
+    void testReadInputEndOfInput() throws IOException {
+        assertNull(adapter.readInput(new ArrayInputSource("")));
+    }
+
     @Test
     @DisplayName("Should use custom messages when provided")
     void testCustomMessages() {
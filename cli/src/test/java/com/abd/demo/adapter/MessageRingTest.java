@@ -0,0 +1,69 @@
+package com.abd.demo.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MessageRing Tests")
+class MessageRingTest {
+
+    @Test
+    @DisplayName("Should reject offers when full and accept again after draining")
+    void testCapacity() {
+        MessageRing ring = new MessageRing(2);
+        assertTrue(ring.offer(1, "a"));
+        assertTrue(ring.offer(2, "b"));
+        assertFalse(ring.offer(3, "c"));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(1, ring.drain((kind, text) -> drained.add(kind + text), 1));
+        assertTrue(ring.offer(3, "c"));
+        assertEquals(2, ring.drain((kind, text) -> drained.add(kind + text), 10));
+
+        assertEquals(List.of("1a", "2b", "3c"), drained);
+        assertEquals(3, ring.produced());
+        assertEquals(3, ring.consumed());
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    @DisplayName("Should hand messages across threads in order")
+    void testConcurrentOrder() throws InterruptedException {
+        MessageRing ring = new MessageRing(16);
+        int count = 5_000;
+        List<Integer> received = new ArrayList<>(count);
+        Thread consumer = new Thread(() -> {
+            while (received.size() < count) {
+                if (ring.drain((kind, text) -> received.add(kind), 8) == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+        consumer.setDaemon(true);
+        consumer.start();
+        for (int i = 0; i < count; i++) {
+            while (!ring.offer(i, null)) {
+                Thread.yield();
+            }
+        }
+        consumer.join(10_000);
+
+        // a finished consumer also makes its list visible here
+        assertFalse(consumer.isAlive(), "consumer did not receive every message in time");
+        assertEquals(count, received.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject capacities that are not powers of two")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MessageRing(3));
+        assertThrows(IllegalArgumentException.class, () -> new MessageRing(0));
+    }
+}
@@ -0,0 +1,97 @@
+package com.abd.demo.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PipeAdapter Tests")
+class PipeAdapterTest {
+
+    private ByteArrayOutputStream bytes;
+    private PipeAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        bytes = new ByteArrayOutputStream();
+        adapter = new PipeAdapter(bytes);
+    }
+
+    private String written() {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should write nothing for welcome and blank lines")
+    void testNoBannerOrSeparators() {
+        adapter.showWelcome();
+        adapter.showBlankLine();
+        adapter.flush();
+
+        assertEquals("", written());
+    }
+
+    @Test
+    @DisplayName("Should write one line per result and error")
+    void testResultsAndErrors() {
+        adapter.showResult("noon");
+        adapter.showResult(null);
+        adapter.showError("Hours must be between 0 and 23");
+        adapter.flush();
+
+        assertEquals("noon\nError: Hours must be between 0 and 23\n", written());
+    }
+
+    @Test
+    @DisplayName("Should buffer output until flushed")
+    void testBuffersUntilFlush() {
+        adapter.showResult("noon");
+        assertEquals("", written());
+
+        adapter.flush();
+        assertEquals("noon\n", written());
+    }
+
+    @Test
+    @DisplayName("Should write through when the buffer fills")
+    void testWritesWhenBufferFills() {
+        PipeAdapter small = new PipeAdapter(bytes, 16, new Messages());
+        small.showResult("twenty five past eleven");
+
+        assertTrue(written().startsWith("twenty five"));
+    }
+
+    @Test
+    @DisplayName("Should flush without a goodbye message on exit")
+    void testShowExitFlushes() {
+        adapter.showResult("noon");
+        adapter.showExit();
+
+        assertEquals("noon\n", written());
+    }
+
+    @Test
+    @DisplayName("Should read trimmed lines without a prompt")
+    void testReadInput() throws IOException {
+        InputSource source = new ArrayInputSource("  12:00  \n");
+        assertEquals("12:00", adapter.readInput(source));
+        assertNull(adapter.readInput(source));
+        adapter.flush();
+
+        assertEquals("", written());
+    }
+
+    @Test
+    @DisplayName("Should encode output as UTF-8")
+    void testUtf8() {
+        adapter.showInfo("12:00 → noon");
+        adapter.flush();
+
+        assertArrayEquals("12:00 → noon\n".getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+    }
+}
@@ -0,0 +1,89 @@
+package com.abd.demo.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScannerOutputAdapter Tests")
+@SuppressWarnings("deprecation")
+class ScannerOutputAdapterTest {
+
+    @Test
+    @DisplayName("Should bridge adapters that still read through a Scanner")
+    void testReadsThroughScanner() {
+        LegacyAdapter adapter = new LegacyAdapter();
+        ArrayInputSource source = new ArrayInputSource("12:00\n  9:30\n");
+
+        assertEquals("12:00", adapter.readInput(source));
+        assertEquals("9:30", adapter.readInput(source));
+        assertEquals(List.of("12:00", "  9:30"), adapter.lines);
+    }
+
+    @Test
+    @DisplayName("Should report an overlong line and go on with the next one")
+    void testLineTooLong() {
+        LegacyAdapter adapter = new LegacyAdapter();
+        byte[] input = "12:00\n0123456789\n9:30\n".getBytes(StandardCharsets.UTF_8);
+        ArrayInputSource source = new ArrayInputSource(input, 8);
+
+        assertEquals("12:00", adapter.readInput(source));
+        assertEquals(new LineTooLongException(8).getMessage(), adapter.readInput(source));
+        assertEquals("9:30", adapter.readInput(source));
+        assertNull(adapter.readInput(source));
+    }
+
+    @Test
+    @DisplayName("Should return null at end of input")
+    void testEndOfInput() {
+        assertNull(new LegacyAdapter().readInput(new ArrayInputSource("")));
+    }
+
+    private static class LegacyAdapter extends ScannerOutputAdapter {
+        final List<String> lines = new ArrayList<>();
+
+        @Override
+        public String readInput(Scanner scanner) {
+            String line = scanner.nextLine();
+            lines.add(line);
+            return line.trim();
+        }
+
+        @Override
+        public void showWelcome() {
+        }
+
+        @Override
+        public void showHelp() {
+        }
+
+        @Override
+        public void showExit() {
+        }
+
+        @Override
+        public void showResult(String result) {
+        }
+
+        @Override
+        public void showError(String error) {
+        }
+
+        @Override
+        public void showSuccess(String message) {
+        }
+
+        @Override
+        public void showInfo(String message) {
+        }
+
+        @Override
+        public void showBlankLine() {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.abd.demo.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchStats Tests")
+class BatchStatsTest {
+
+    @Test
+    @DisplayName("Should sum counters and compute lines per second")
+    void testCounters() {
+        BatchStats stats = new BatchStats();
+        stats.recordValid();
+        stats.recordValid();
+        stats.recordInvalid();
+        stats.recordBlank();
+        stats.setElapsedNanos(2_000_000_000L);
+
+        assertEquals(4, stats.getLines());
+        assertEquals(2.0, stats.getLinesPerSecond());
+        assertEquals("Converted 4 lines (2 valid, 1 invalid, 1 blank) in 2000.0 ms, 2 lines/s", stats.format());
+    }
+
+    @Test
+    @DisplayName("Should merge partition counters without adding elapsed time")
+    void testAdd() {
+        BatchStats total = new BatchStats();
+        BatchStats partition = new BatchStats();
+        partition.recordValid();
+        partition.addBytesRead(6);
+        partition.addBytesWritten(5);
+        partition.setElapsedNanos(10);
+
+        total.add(partition);
+        total.add(partition);
+
+        assertEquals(2, total.getValid());
+        assertEquals(12, total.getBytesRead());
+        assertEquals(10, total.getBytesWritten());
+        assertEquals(0, total.getElapsedNanos());
+        assertEquals(0, total.getLinesPerSecond());
+    }
+}
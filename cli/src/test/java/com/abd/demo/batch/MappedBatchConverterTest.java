@@ -0,0 +1,79 @@
+package com.abd.demo.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedBatchConverter Tests")
+class MappedBatchConverterTest {
+
+    private static final String INPUT = "12:00\n7:15\r\n\n  \n24:00\nabc\n0:00\n 9:45 \n23:59";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should match the streaming converter byte for byte")
+    void testMatchesStreamingConverter() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), INPUT, StandardCharsets.UTF_8);
+        BatchStats streamed = new StreamingBatchConverter().convert(in, directory.resolve("streamed.txt"));
+        BatchStats mapped = new MappedBatchConverter().convert(in, directory.resolve("mapped.txt"));
+
+        assertArrayEquals(Files.readAllBytes(directory.resolve("streamed.txt")),
+            Files.readAllBytes(directory.resolve("mapped.txt")));
+        assertEquals(streamed.getValid(), mapped.getValid());
+        assertEquals(streamed.getInvalid(), mapped.getInvalid());
+        assertEquals(streamed.getBlank(), mapped.getBlank());
+        assertEquals(Files.size(in), mapped.getBytesRead());
+    }
+
+    @Test
+    @DisplayName("Should remap across record boundaries for any window size")
+    void testSmallWindows() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), INPUT, StandardCharsets.UTF_8);
+        new MappedBatchConverter().convert(in, directory.resolve("expected.txt"));
+        byte[] expected = Files.readAllBytes(directory.resolve("expected.txt"));
+
+        for (int windowSize = 8; windowSize <= 16; windowSize++) {
+            new MappedBatchConverter(windowSize).convert(in, directory.resolve("out.txt"));
+            assertArrayEquals(expected, Files.readAllBytes(directory.resolve("out.txt")), "window " + windowSize);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report and skip records longer than a window")
+    void testOverlongRecord() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), "1:00\n" + " ".repeat(30) + "1:00\n2:00");
+
+        BatchStats stats = new MappedBatchConverter(8).convert(in, directory.resolve("out.txt"));
+
+        assertEquals("one o'clock\nError: Line exceeds 8 bytes\ntwo o'clock\n",
+            Files.readString(directory.resolve("out.txt")));
+        assertEquals(1, stats.getInvalid());
+        assertEquals(Files.size(in), stats.getBytesRead());
+    }
+
+    @Test
+    @DisplayName("Should handle an empty file")
+    void testEmptyFile() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), "");
+
+        BatchStats stats = new MappedBatchConverter().convert(in, directory.resolve("out.txt"));
+
+        assertEquals(0, Files.size(directory.resolve("out.txt")));
+        assertEquals(0, stats.getLines());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive window sizes")
+    void testInvalidWindowSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedBatchConverter(-1));
+    }
+}
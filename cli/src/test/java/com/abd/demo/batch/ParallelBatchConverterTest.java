@@ -0,0 +1,82 @@
+package com.abd.demo.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelBatchConverter Tests")
+class ParallelBatchConverterTest {
+
+    private static final String INPUT = "12:00\n7:15\r\n\n  \n24:00\nabc\n0:00\n 9:45 \n23:59";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should match the single-threaded converter byte for byte for any partition count")
+    void testMatchesStreamingConverter() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), INPUT, StandardCharsets.UTF_8);
+        BatchStats streamed = new StreamingBatchConverter().convert(in, directory.resolve("expected.txt"));
+        byte[] expected = Files.readAllBytes(directory.resolve("expected.txt"));
+
+        for (int partitions = 1; partitions <= INPUT.length() + 1; partitions++) {
+            BatchStats parallel = new ParallelBatchConverter(partitions, 64)
+                .convert(in, directory.resolve("out.txt"));
+
+            assertArrayEquals(expected, Files.readAllBytes(directory.resolve("out.txt")), "partitions " + partitions);
+            assertEquals(streamed.getValid(), parallel.getValid());
+            assertEquals(streamed.getInvalid(), parallel.getInvalid());
+            assertEquals(streamed.getBlank(), parallel.getBlank());
+            assertEquals(Files.size(in), parallel.getBytesRead());
+        }
+    }
+
+    @Test
+    @DisplayName("Should align partition boundaries to line starts")
+    void testSplitAlignsToLines() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), "1:00\n" + " ".repeat(30) + "\n2:00\n");
+
+        try (FileChannel channel = FileChannel.open(in)) {
+            assertArrayEquals(new long[]{0, 5, 36, 41}, ParallelBatchConverter.split(channel, 8));
+            assertArrayEquals(new long[]{0, 41}, ParallelBatchConverter.split(channel, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove temporary segments")
+    void testRemovesSegments() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), INPUT, StandardCharsets.UTF_8);
+
+        new ParallelBatchConverter(4, 64).convert(in, directory.resolve("out.txt"));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle an empty file")
+    void testEmptyFile() throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), "");
+
+        BatchStats stats = new ParallelBatchConverter(4, 64).convert(in, directory.resolve("out.txt"));
+
+        assertEquals(0, Files.size(directory.resolve("out.txt")));
+        assertEquals(0, stats.getLines());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive partition counts")
+    void testInvalidPartitions() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBatchConverter(0, 64));
+    }
+}
@@ -0,0 +1,89 @@
+package com.abd.demo.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamingBatchConverter Tests")
+class StreamingBatchConverterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should convert one line per input line and count results")
+    void testConvertFile() throws IOException {
+        BatchStats stats = convert(new StreamingBatchConverter(), "12:00\n7:15\r\n\n  \n24:00\nabc\n23:59");
+
+        assertEquals(String.join("\n",
+            "noon",
+            "quarter past seven",
+            "Error: Hours must be between 0 and 23",
+            "Error: Invalid time format. Hours and minutes must be numbers.",
+            "twenty three fifty nine",
+            ""), output());
+        assertEquals(7, stats.getLines());
+        assertEquals(3, stats.getValid());
+        assertEquals(2, stats.getInvalid());
+        assertEquals(2, stats.getBlank());
+        assertEquals(Files.size(directory.resolve("in.txt")), stats.getBytesRead());
+        assertEquals(Files.size(directory.resolve("out.txt")), stats.getBytesWritten());
+        assertTrue(stats.getElapsedNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Should give the same output for any buffer size")
+    void testRecordsSpanningBuffers() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+            input.append(minuteOfDay / 60).append(':').append(String.format("%02d", minuteOfDay % 60)).append('\n');
+        }
+        convert(new StreamingBatchConverter(), input.toString());
+        String expected = output();
+
+        convert(new StreamingBatchConverter(7), input.toString());
+        assertEquals(expected, output());
+        assertEquals(1440, expected.split("\n").length);
+    }
+
+    @Test
+    @DisplayName("Should report and skip lines longer than the buffer")
+    void testOverlongLine() throws IOException {
+        BatchStats stats = convert(new StreamingBatchConverter(8), "1:00\n" + " ".repeat(30) + "1:00\n2:00\n");
+
+        assertEquals("one o'clock\nError: Line exceeds 8 bytes\ntwo o'clock\n", output());
+        assertEquals(1, stats.getInvalid());
+        assertEquals(2, stats.getValid());
+    }
+
+    @Test
+    @DisplayName("Should produce an empty file for empty input")
+    void testEmptyInput() throws IOException {
+        BatchStats stats = convert(new StreamingBatchConverter(), "");
+
+        assertEquals("", output());
+        assertEquals(0, stats.getLines());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive buffer sizes")
+    void testInvalidBufferSize() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingBatchConverter(0));
+    }
+
+    private BatchStats convert(BatchConverter converter, String input) throws IOException {
+        Path in = Files.writeString(directory.resolve("in.txt"), input, StandardCharsets.UTF_8);
+        return converter.convert(in, directory.resolve("out.txt"));
+    }
+
+    private String output() throws IOException {
+        return Files.readString(directory.resolve("out.txt"), StandardCharsets.UTF_8);
+    }
+}
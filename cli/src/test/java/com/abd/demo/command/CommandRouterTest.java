@@ -0,0 +1,99 @@
+package com.abd.demo.command;
+
+import com.abd.demo.adapter.OutputAdapter;
+import com.abd.demo.service.TimeConverterService;
+import com.abd.demo.service.TimeParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CommandRouterTest {
+
+    @Mock
+    private OutputAdapter mockOutput;
+
+    private ExitCommand exit;
+    private HelpCommand help;
+    private ConfigCommand config;
+    private TimeConversionCommand time;
+    private CommandRouter router;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        exit = new ExitCommand(mockOutput);
+        help = new HelpCommand(mockOutput);
+        config = new ConfigCommand(mockOutput);
+        time = new TimeConversionCommand(new TimeParser(), new TimeConverterService(), mockOutput);
+        router = new CommandRouter(List.of(time, config, help, exit));
+    }
+
+    @Test
+    void getCommands_shouldBeSortedByPriority() {
+        assertEquals(List.of(exit, config, help, time), router.getCommands());
+    }
+
+    @Test
+    void route_shouldDispatchKeywordsCaseInsensitively() {
+        assertSame(exit, router.route("exit"));
+        assertSame(exit, router.route("QUIT"));
+        assertSame(exit, router.route("q"));
+        assertSame(help, router.route("Help"));
+        assertSame(config, router.route("config"));
+        assertSame(config, router.route("CONFIG logs enable"));
+    }
+
+    @Test
+    void route_shouldSendTimesToTimeConversion() {
+        assertSame(time, router.route("14:30"));
+        assertSame(time, router.route("9"));
+        assertSame(time, router.route("abc"));
+        assertSame(time, router.route("exit now"));
+        assertSame(time, router.route(""));
+    }
+
+    @Test
+    void route_shouldFallBackToCanHandleScan_whenFirstWordIsNotAKeyword() {
+        // ConfigCommand accepts any input starting with "config"
+        assertSame(config, router.route("configure"));
+    }
+
+    @Test
+    void route_shouldAgreeWithPriorityScan() {
+        List<Command> sorted = router.getCommands();
+        for (String input : List.of("exit", "Q", "help", "help me", "config", "config logs", "configx",
+                "12:00", "7", "-1:00", " ", "quitting", "HELP")) {
+            Command expected = sorted.stream().filter(command -> command.canHandle(input)).findFirst().orElse(null);
+            assertSame(expected, router.route(input), input);
+        }
+    }
+
+    @Test
+    void route_shouldNotProbeKeywordCommands_forDigitInput() {
+        Command keywordCommand = mock(Command.class);
+        when(keywordCommand.keywords()).thenReturn(Set.of("stop"));
+        when(keywordCommand.getPriority()).thenReturn(1);
+        CommandRouter withMock = new CommandRouter(List.of(keywordCommand, time));
+
+        assertSame(time, withMock.route("12:30"));
+        verify(keywordCommand, never()).canHandle(anyString());
+    }
+
+    @Test
+    void route_shouldLetHigherPriorityFallbackWin_overKeywordCommand() {
+        Command catchAll = mock(Command.class);
+        when(catchAll.keywords()).thenReturn(Set.of());
+        when(catchAll.getPriority()).thenReturn(1);
+        when(catchAll.canHandle(anyString())).thenReturn(true);
+        CommandRouter withMock = new CommandRouter(List.of(help, catchAll));
+
+        assertSame(catchAll, withMock.route("help"));
+    }
+}
@@ -0,0 +1,173 @@
+package com.abd.demo.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CliOptions Tests")
+class CliOptionsTest {
+
+    @Test
+    @DisplayName("Should default to interactive mode")
+    void testNoArguments() {
+        CliOptions options = CliOptions.parse();
+        assertFalse(options.isBatch());
+        assertFalse(options.isPipe());
+        assertEquals(1 << 20, options.getBufferSize());
+    }
+
+    @Test
+    @DisplayName("Should collect time arguments for one-shot mode")
+    void testOneShotTimes() {
+        CliOptions options = CliOptions.parse("7:30", "14:45");
+        assertTrue(options.isOneShot());
+        assertEquals(List.of("7:30", "14:45"), options.getTimes());
+        assertFalse(CliOptions.parse().isOneShot());
+
+        assertEquals("Time arguments cannot be combined with --pipe, --in or --out",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("7:30", "--pipe")).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should parse the pipe mode flag")
+    void testPipeOption() {
+        CliOptions options = CliOptions.parse("--pipe");
+        assertTrue(options.isPipe());
+        assertFalse(options.isBatch());
+    }
+
+    @Test
+    @DisplayName("Should parse batch options")
+    void testBatchOptions() {
+        CliOptions options = CliOptions.parse("--in", "times.txt", "--out", "spoken.txt", "--buffer-size", "4096");
+        assertTrue(options.isBatch());
+        assertEquals(Path.of("times.txt"), options.getInput());
+        assertEquals(Path.of("spoken.txt"), options.getOutput());
+        assertEquals(4096, options.getBufferSize());
+        assertFalse(options.isMapped());
+    }
+
+    @Test
+    @DisplayName("Should parse memory-mapped batch options")
+    void testMappedOptions() {
+        CliOptions options = CliOptions.parse("--in", "a", "--out", "b", "--mmap", "--window-size", "1024");
+        assertTrue(options.isMapped());
+        assertEquals(1024, options.getWindowSize());
+        assertEquals(64 << 20, CliOptions.parse().getWindowSize());
+    }
+
+    @Test
+    @DisplayName("Should parse parallel batch options")
+    void testParallelOptions() {
+        assertTrue(CliOptions.parse("--in", "a", "--out", "b", "--parallel").isParallel());
+        assertEquals(Runtime.getRuntime().availableProcessors(), CliOptions.parse("--parallel").getPartitions());
+
+        CliOptions options = CliOptions.parse("--in", "a", "--out", "b", "--partitions", "3");
+        assertTrue(options.isParallel());
+        assertEquals(3, options.getPartitions());
+        assertFalse(CliOptions.parse().isParallel());
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--partitions", "0"));
+    }
+
+    @Test
+    @DisplayName("Should parse warm-up options")
+    void testWarmupOptions() {
+        assertFalse(CliOptions.parse().isWarmup());
+        CliOptions defaults = CliOptions.parse("--warmup");
+        assertTrue(defaults.isWarmup());
+        assertEquals(50_000, defaults.getWarmupIterations());
+        assertEquals(2_000, defaults.getWarmupMillis());
+
+        CliOptions options = CliOptions.parse("--pipe", "--warmup-iterations", "1000", "--warmup-millis", "100");
+        assertTrue(options.isWarmup());
+        assertEquals(1000, options.getWarmupIterations());
+        assertEquals(100, options.getWarmupMillis());
+
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--warmup-millis", "0"));
+        assertEquals("--warmup applies to the interactive, pipe and server modes only",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--warmup", "7:30")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--warmup", "--in", "a", "--out", "b"));
+    }
+
+    @Test
+    @DisplayName("Should parse server options")
+    void testServerOptions() {
+        CliOptions defaults = CliOptions.parse("--serve");
+        assertTrue(defaults.isServe());
+        assertEquals("localhost", defaults.getHost());
+        assertEquals(8080, defaults.getPort());
+        assertEquals("fixed", defaults.getExecutor());
+        assertEquals(Runtime.getRuntime().availableProcessors(), defaults.getThreads());
+        assertFalse(CliOptions.parse().isServe());
+
+        CliOptions options = CliOptions.parse("--host", "0.0.0.0", "--port", "9000", "--executor", "virtual",
+            "--threads", "4", "--warmup");
+        assertTrue(options.isServe());
+        assertTrue(options.isWarmup());
+        assertEquals("0.0.0.0", options.getHost());
+        assertEquals(9000, options.getPort());
+        assertEquals("virtual", options.getExecutor());
+        assertEquals(4, options.getThreads());
+
+        assertEquals("--executor must be fixed or virtual, got: pool",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--executor", "pool")).getMessage());
+        assertEquals("--serve cannot be combined with --pipe, --in, --out or time arguments",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--serve", "--pipe")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--port", "8080", "7:30"));
+    }
+
+    @Test
+    @DisplayName("Should reject ports outside 1 to 65535")
+    void testPortRange() {
+        assertEquals(65535, CliOptions.parse("--port", "65535").getPort());
+        assertEquals("--port must be between 1 and 65535, got: 70000",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--port", "70000")).getMessage());
+        assertEquals("--port must be between 1 and 65535, got: 0",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--port", "0")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--port", "http"));
+    }
+
+    @Test
+    @DisplayName("Should parse the TCP line server options")
+    void testTcpOptions() {
+        CliOptions defaults = CliOptions.parse("--tcp");
+        assertTrue(defaults.isServe());
+        assertTrue(defaults.isTcp());
+        assertEquals(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), defaults.getEventLoops());
+        assertFalse(defaults.isBinary());
+        assertFalse(CliOptions.parse("--serve").isTcp());
+        assertTrue(CliOptions.parse("--binary").isTcp());
+        assertTrue(CliOptions.parse("--tcp", "--binary").isBinary());
+
+        CliOptions options = CliOptions.parse("--event-loops", "3", "--port", "9100");
+        assertTrue(options.isTcp());
+        assertEquals(3, options.getEventLoops());
+        assertEquals(9100, options.getPort());
+
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--event-loops", "0"));
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--tcp", "--in", "a", "--out", "b"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testInvalidArguments() {
+        assertEquals("Unknown option: --fast",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--fast")).getMessage());
+        assertEquals("Missing value for --in",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--in")).getMessage());
+        assertEquals("--in and --out must be used together",
+            assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--in", "a")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--buffer-size", "0"));
+        assertThrows(IllegalArgumentException.class, () -> CliOptions.parse("--buffer-size", "big"));
+    }
+
+    @Test
+    @DisplayName("Usage should mention the batch options")
+    void testUsage() {
+        assertTrue(CliOptions.usage().contains("--in <file> --out <file>"));
+    }
+}
@@ -0,0 +1,21 @@
+package com.abd.demo.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LazyLogger Tests")
+class LazyLoggerTest {
+
+    @Test
+    @DisplayName("Should create the SLF4J logger on first use only")
+    void testCreatedOnFirstUse() {
+        LazyLogger log = LazyLogger.getLogger(LazyLoggerTest.class);
+        assertFalse(log.isInitialized());
+
+        log.trace("first {}", "message");
+
+        assertTrue(log.isInitialized());
+    }
+}
@@ -0,0 +1,38 @@
+package com.abd.demo.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.abd.demo.service.BritishTimeConverter;
+import com.abd.demo.service.rule.OClockRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Platform Logging Tests")
+class PlatformLoggingTest {
+
+    @Test
+    @DisplayName("Should route core System.Logger warnings to Logback")
+    void testCoreWarningsReachLogback() {
+        Logger logger = (Logger) LoggerFactory.getLogger(BritishTimeConverter.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            new BritishTimeConverter(List.of(new OClockRule(), new OClockRule()));
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("Rule OClockRule can never fire: it owns no minute of the day", event.getFormattedMessage());
+    }
+}
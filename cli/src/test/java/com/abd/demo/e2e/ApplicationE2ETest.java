@@ -2,6 +2,7 @@ package com.abd.demo.e2e;
 
 import ch.qos.logback.classic.LoggerContext;
 import com.abd.demo.Main;
+import com.abd.demo.adapter.InputSource;
 import com.abd.demo.adapter.OutputAdapter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +12,6 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -267,7 +267,7 @@ class ApplicationE2ETest {
         }
 
         @Override
-        public String readInput(Scanner scanner) {
+        public String readInput(InputSource input) {
             if (inputIndex < inputs.size()) {
                 return inputs.get(inputIndex++);
             }
@@ -1,5 +1,6 @@
 package com.abd.demo.integration;
 
+import com.abd.demo.adapter.InputSource;
 import com.abd.demo.adapter.OutputAdapter;
 import com.abd.demo.command.*;
 import com.abd.demo.service.TimeConverterService;
@@ -10,7 +11,6 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -200,7 +200,7 @@ class CommandProcessingIntegrationTest {
         }
 
         @Override
-        public String readInput(Scanner scanner) {
+        public String readInput(InputSource input) {
             return "";
         }
 
@@ -0,0 +1,129 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryConnection Tests")
+class BinaryConnectionTest {
+
+    private final TimeConverterService converter = new TimeConverterService();
+    private TcpConversionServer server;
+    private Socket socket;
+    private DataInputStream in;
+    private DataOutputStream out;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = TcpConversionServer.start(new InetSocketAddress("localhost", 0), 1,
+            TcpConversionServer.Protocol.BINARY);
+        socket = new Socket("localhost", server.getAddress().getPort());
+        socket.setSoTimeout(10_000);
+        in = new DataInputStream(socket.getInputStream());
+        out = new DataOutputStream(socket.getOutputStream());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        socket.close();
+        server.close();
+    }
+
+    private List<String> readDictionary() throws IOException {
+        out.writeShort(0);
+        out.flush();
+        assertEquals(0, in.readUnsignedShort(), "a dictionary response echoes the count 0");
+        int count = in.readUnsignedShort();
+        List<String> phrases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] phrase = new byte[in.readUnsignedByte()];
+            in.readFully(phrase);
+            phrases.add(new String(phrase, StandardCharsets.UTF_8));
+        }
+        return phrases;
+    }
+
+    @Test
+    @DisplayName("Should answer a batch with phrase ids of the dictionary sent first")
+    void testDictionaryThenIds() throws Exception {
+        List<String> phrases = readDictionary();
+
+        out.writeShort(3);
+        out.writeShort(7 * 60 + 30);
+        out.writeShort(0);
+        out.writeShort(23 * 60 + 59);
+        out.flush();
+
+        assertEquals(3, in.readUnsignedShort());
+        assertEquals("half past seven", phrases.get(in.readUnsignedShort()));
+        assertEquals("midnight", phrases.get(in.readUnsignedShort()));
+        assertEquals(converter.convert(Time.of(23, 59)), phrases.get(in.readUnsignedShort()));
+    }
+
+    @Test
+    @DisplayName("Should answer values outside the day with the reserved error id")
+    void testErrorId() throws Exception {
+        out.writeShort(3);
+        out.writeShort(1440);
+        out.writeShort(12 * 60);
+        out.writeShort(0xFFFF);
+        out.flush();
+
+        assertEquals(3, in.readUnsignedShort());
+        assertEquals(PhraseDictionary.ERROR_ID, in.readUnsignedShort());
+        assertNotEquals(PhraseDictionary.ERROR_ID, in.readUnsignedShort());
+        assertEquals(PhraseDictionary.ERROR_ID, in.readUnsignedShort());
+    }
+
+    @Test
+    @DisplayName("Should stream large pipelined batches split across reads and writes")
+    void testLargePipelinedBatches() throws Exception {
+        List<String> phrases = readDictionary();
+        int batches = 20;
+        int batchSize = 50_000;
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                DataOutputStream data = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                for (int batch = 0; batch < batches; batch++) {
+                    data.writeShort(batchSize);
+                    for (int i = 0; i < batchSize; i++) {
+                        data.writeShort((batch + i) % 1440);
+                    }
+                }
+                data.flush();
+                socket.shutdownOutput();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        DataInputStream data = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        for (int batch = 0; batch < batches; batch++) {
+            assertEquals(batchSize, data.readUnsignedShort());
+            for (int i = 0; i < batchSize; i++) {
+                int minuteOfDay = (batch + i) % 1440;
+                assertEquals(converter.convert(Time.ofMinuteOfDay(minuteOfDay)), phrases.get(data.readUnsignedShort()));
+            }
+        }
+        writer.join();
+        assertEquals(-1, data.read(), "the server closes once the last batch is answered");
+    }
+}
@@ -0,0 +1,162 @@
+package com.abd.demo.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HttpConversionServer Tests")
+class HttpConversionServerTest {
+
+    private HttpConversionServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpConversionServer.start(new InetSocketAddress("localhost", 0),
+            ServerExecutors.create(ServerExecutors.FIXED, 2));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + pathAndQuery);
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(pathAndQuery)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/convert"))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Should convert a single time from the query string")
+    void testGetConvertsTime() throws Exception {
+        HttpResponse<String> response = get("/convert?time=7:30");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("half past seven", response.body());
+        assertEquals("text/plain; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("quarter to ten", get("/convert?format=x&time=09%3A45").body());
+    }
+
+    @Test
+    @DisplayName("Should tag lookups and answer 304 when the client's copy is current")
+    void testConditionalGet() throws Exception {
+        HttpResponse<String> first = get("/convert?time=7:30");
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        assertTrue(etag.startsWith("\"450-"), etag);
+        assertEquals("public, max-age=31536000, immutable", first.headers().firstValue("Cache-Control").orElseThrow());
+
+        HttpResponse<String> cached = client.send(HttpRequest.newBuilder(uri("/convert?time=07:30"))
+            .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(304, cached.statusCode());
+        assertEquals("", cached.body());
+        assertEquals(etag, cached.headers().firstValue("ETag").orElseThrow());
+
+        HttpResponse<String> stale = client.send(HttpRequest.newBuilder(uri("/convert?time=7:31"))
+            .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, stale.statusCode());
+        assertEquals("seven thirty one", stale.body());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for invalid or missing times")
+    void testGetRejectsInvalidTime() throws Exception {
+        HttpResponse<String> invalid = get("/convert?time=25:00");
+        assertEquals(400, invalid.statusCode());
+        assertEquals("Error: Hours must be between 0 and 23, got: 25", invalid.body());
+
+        HttpResponse<String> missing = get("/convert");
+        assertEquals(400, missing.statusCode());
+        assertEquals("Error: Missing query parameter: time", missing.body());
+        assertTrue(missing.headers().firstValue("ETag").isEmpty());
+        assertEquals("Error: Time input cannot be empty", get("/convert?time=").body());
+    }
+
+    @Test
+    @DisplayName("Should convert a batch body line by line, with errors inline")
+    void testPostConvertsBatch() throws Exception {
+        HttpResponse<String> response = post("7:30\r\n\n25:00\n0:00");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("half past seven\nError: Hours must be between 0 and 23, got: 25\nmidnight\n", response.body());
+    }
+
+    @Test
+    @DisplayName("Should reject batches over the line limit")
+    void testPostRejectsOversizedBatch() throws Exception {
+        HttpResponse<String> response = post("7:30\n".repeat(ConvertHandler.MAX_BATCH_LINES + 1));
+
+        assertEquals(413, response.statusCode());
+        assertEquals("Error: Batch exceeds " + ConvertHandler.MAX_BATCH_LINES + " lines; use /convert/stream",
+            response.body());
+    }
+
+    @Test
+    @DisplayName("Should answer 405 for other methods and 404 for other paths")
+    void testUnsupportedRequests() throws Exception {
+        HttpResponse<String> delete = client.send(HttpRequest.newBuilder(uri("/convert")).DELETE().build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, delete.statusCode());
+        assertEquals("GET, POST", delete.headers().firstValue("Allow").orElseThrow());
+
+        assertEquals(404, get("/convertx").statusCode());
+        assertEquals(404, get("/").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should keep the connection alive across requests")
+    void testKeepAlive() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getAddress().getPort())) {
+            OutputStream out = socket.getOutputStream();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            for (String time : new String[]{"7:30", "12:00", "9:45"}) {
+                out.write(("GET /convert?time=" + time + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                assertEquals("HTTP/1.1 200 OK", in.readLine());
+                int length = -1;
+                for (String header = in.readLine(); !header.isEmpty(); header = in.readLine()) {
+                    if (header.toLowerCase().startsWith("content-length:")) {
+                        length = Integer.parseInt(header.substring("content-length:".length()).trim());
+                    }
+                }
+                char[] body = new char[length];
+                assertEquals(length, in.read(body));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should extract the time query parameter")
+    void testQueryParameter() {
+        assertEquals("7:30", ConvertHandler.queryParameter("time=7:30"));
+        assertEquals("7:30", ConvertHandler.queryParameter("a=1&time=7%3A30"));
+        assertNull(ConvertHandler.queryParameter("a=1"));
+        assertNull(ConvertHandler.queryParameter(null));
+    }
+}
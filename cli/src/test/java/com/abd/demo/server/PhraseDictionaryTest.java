@@ -0,0 +1,70 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PhraseDictionary Tests")
+class PhraseDictionaryTest {
+
+    private final TimeConverterService converter = new TimeConverterService();
+    private final PhraseDictionary dictionary = PhraseDictionary.build(TimeConverterService.precomputed());
+
+    @Test
+    @DisplayName("Should number each distinct phrase once, in natural order")
+    void testIdsFollowPhraseOrder() {
+        List<String> expected = IntStream.range(0, 1440)
+            .mapToObj(m -> converter.convert(Time.ofMinuteOfDay(m)))
+            .distinct()
+            .sorted()
+            .collect(Collectors.toList());
+
+        assertEquals(expected.size(), dictionary.size());
+        assertTrue(dictionary.size() < PhraseDictionary.ERROR_ID);
+        for (int id = 0; id < dictionary.size(); id++) {
+            assertEquals(expected.get(id), dictionary.phrase(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Should map every minute of the day to the id of its phrase")
+    void testIdOfMinute() {
+        for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+            assertEquals(converter.convert(Time.ofMinuteOfDay(minuteOfDay)),
+                dictionary.phrase(dictionary.id(minuteOfDay)));
+        }
+        assertEquals(dictionary.id(60), dictionary.id(13 * 60), "one o'clock twice a day");
+        assertEquals(PhraseDictionary.ERROR_ID, dictionary.id(1440));
+        assertEquals(PhraseDictionary.ERROR_ID, dictionary.id(0xFFFF));
+        assertEquals(PhraseDictionary.ERROR_ID, dictionary.id(-1));
+    }
+
+    @Test
+    @DisplayName("Should encode the phrases as count, then length-prefixed UTF-8")
+    void testEncoding() {
+        ByteBuffer encoded = ByteBuffer.wrap(dictionary.encoded());
+        int count = encoded.getChar();
+        List<String> phrases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] phrase = new byte[encoded.get() & 0xFF];
+            encoded.get(phrase);
+            phrases.add(new String(phrase, StandardCharsets.UTF_8));
+        }
+
+        assertFalse(encoded.hasRemaining());
+        assertEquals(dictionary.size(), phrases.size());
+        for (int id = 0; id < phrases.size(); id++) {
+            assertEquals(dictionary.phrase(id), phrases.get(id));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrerenderedResponses Tests")
+class PrerenderedResponsesTest {
+
+    private final TimeConverterService converter = TimeConverterService.precomputed();
+    private final PrerenderedResponses responses = PrerenderedResponses.build(converter);
+
+    @Test
+    @DisplayName("Should render the converter's phrase for every minute of the day")
+    void testBodies() {
+        for (int minuteOfDay = 0; minuteOfDay < 24 * 60; minuteOfDay++) {
+            assertEquals(converter.convert(Time.ofMinuteOfDay(minuteOfDay)),
+                new String(responses.body(minuteOfDay), StandardCharsets.UTF_8));
+        }
+        assertSame(responses.body(450), responses.body(450));
+    }
+
+    @Test
+    @DisplayName("Should give every minute a distinct strong ETag")
+    void testEtags() {
+        Set<String> etags = new HashSet<>();
+        for (int minuteOfDay = 0; minuteOfDay < 24 * 60; minuteOfDay++) {
+            String etag = responses.etag(minuteOfDay);
+            assertTrue(etag.startsWith("\"" + minuteOfDay + "-") && etag.endsWith("\""), etag);
+            assertTrue(etags.add(etag));
+            assertEquals(etag, responses.etagHeader(minuteOfDay).get(0));
+        }
+        assertEquals(responses.etag(450), PrerenderedResponses.build(converter).etag(450));
+    }
+
+    @Test
+    @DisplayName("Should evaluate If-None-Match with weak comparison")
+    void testNotModified() {
+        String etag = responses.etag(450);
+
+        assertTrue(responses.notModified(450, etag));
+        assertTrue(responses.notModified(450, "W/" + etag));
+        assertTrue(responses.notModified(450, "\"other\", " + etag));
+        assertTrue(responses.notModified(450, "*"));
+        assertFalse(responses.notModified(450, null));
+        assertFalse(responses.notModified(450, "\"other\""));
+        assertFalse(responses.notModified(451, etag));
+    }
+}
@@ -0,0 +1,38 @@
+package com.abd.demo.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ServerExecutors Tests")
+class ServerExecutorsTest {
+
+    @Test
+    @DisplayName("Should create a fixed pool of named worker threads")
+    void testFixedExecutor() throws Exception {
+        ExecutorService executor = ServerExecutors.create(ServerExecutors.FIXED, 2);
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().getName()).get().startsWith("http-worker-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report virtual threads as unavailable in the default build")
+    void testVirtualExecutorWithoutProfile() {
+        if (ServerExecutors.isVirtualAvailable()) {
+            return; // built with -Pjava21
+        }
+        assertThrows(IllegalStateException.class, () -> ServerExecutors.create(ServerExecutors.VIRTUAL, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown executor kinds")
+    void testUnknownExecutor() {
+        assertThrows(IllegalArgumentException.class, () -> ServerExecutors.create("forkjoin", 1));
+    }
+}
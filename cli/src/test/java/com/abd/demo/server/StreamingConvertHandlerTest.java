@@ -0,0 +1,124 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamingConvertHandler Tests")
+class StreamingConvertHandlerTest {
+
+    private HttpConversionServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpConversionServer.start(new InetSocketAddress("localhost", 0),
+            ServerExecutors.create(ServerExecutors.FIXED, 2));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    @Test
+    @DisplayName("Should convert line by line with errors inline")
+    void testStreamsResultsWithInlineErrors() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/convert/stream"))
+            .POST(HttpRequest.BodyPublishers.ofString("7:30\r\n\n25:00\nabc\n" + "9".repeat(9000) + "\n0:00"))
+            .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("chunked", response.headers().firstValue("Transfer-Encoding").orElseThrow());
+        assertEquals(String.join("\n",
+            "half past seven",
+            "Error: Hours must be between 0 and 23, got: 25",
+            "Error: Invalid time format. Hour must be a number.",
+            "Error: Line exceeds 8192 bytes",
+            "midnight", ""), response.body());
+    }
+
+    @Test
+    @DisplayName("Should convert uploads larger than the batch limit")
+    void testLargeUpload() throws Exception {
+        TimeConverterService converter = TimeConverterService.precomputed();
+        int lines = 50_000;
+        String upload = IntStream.range(0, lines)
+            .mapToObj(i -> Time.ofMinuteOfDay(i % 1440))
+            .map(time -> time.getHours() + ":" + time.getMinutes())
+            .collect(Collectors.joining("\n"));
+        HttpRequest request = HttpRequest.newBuilder(uri("/convert/stream"))
+            .POST(HttpRequest.BodyPublishers.ofString(upload))
+            .build();
+
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+
+        assertEquals(200, response.statusCode());
+        List<String> results = response.body().collect(Collectors.toList());
+        assertEquals(lines, results.size());
+        for (int i = 0; i < lines; i += 997) {
+            assertEquals(converter.convert(Time.ofMinuteOfDay(i % 1440)), results.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer lines while the upload is still in progress")
+    void testAnswersBeforeUploadCompletes() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getAddress().getPort())) {
+            OutputStream out = socket.getOutputStream();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out.write(("POST /convert/stream HTTP/1.1\r\nHost: localhost\r\nTransfer-Encoding: chunked\r\n\r\n"
+                + "5\r\n7:30\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            assertEquals("HTTP/1.1 200 OK", in.readLine());
+            String header;
+            do {
+                header = in.readLine();
+            } while (!header.isEmpty());
+            assertEquals(Integer.toHexString("half past seven\n".length()), in.readLine());
+            assertEquals("half past seven", in.readLine());
+
+            out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept only POST")
+    void testRejectsOtherMethods() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/convert/stream")).build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElseThrow());
+    }
+}
@@ -0,0 +1,164 @@
+package com.abd.demo.server;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.TimeConverterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TcpConversionServer Tests")
+class TcpConversionServerTest {
+
+    private TcpConversionServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = TcpConversionServer.start(new InetSocketAddress("localhost", 0), 2,
+            TcpConversionServer.Protocol.LINE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket("localhost", server.getAddress().getPort());
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static void send(Socket socket, String text) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    @Test
+    @DisplayName("Should answer each line on a kept-alive connection")
+    void testConvertsLines() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            send(socket, "7:30\n");
+            assertEquals("half past seven", in.readLine());
+            send(socket, "09:45\r\n");
+            assertEquals("quarter to ten", in.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer pipelined lines in order, errors inline")
+    void testPipelinedLinesWithInlineErrors() throws Exception {
+        try (Socket socket = connect()) {
+            send(socket, "7:30\n\n25:00\nabc\n0:00\n12:00");
+            socket.shutdownOutput();
+
+            BufferedReader in = reader(socket);
+            assertEquals("half past seven", in.readLine());
+            assertEquals("Error: Hours must be between 0 and 23", in.readLine());
+            assertEquals("Error: Invalid time format. Hours and minutes must be numbers.", in.readLine());
+            assertEquals("midnight", in.readLine());
+            assertEquals("noon", in.readLine());
+            assertNull(in.readLine(), "the server closes once the last line is answered");
+        }
+    }
+
+    @Test
+    @DisplayName("Should join a line split across writes")
+    void testPartialLine() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = reader(socket);
+            send(socket, "7:");
+            Thread.sleep(50);
+            send(socket, "30\n");
+            assertEquals("half past seven", in.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an overlong line once and carry on")
+    void testOverlongLine() throws Exception {
+        try (Socket socket = connect()) {
+            send(socket, "9".repeat(5000) + "\n7:30\n");
+            BufferedReader in = reader(socket);
+            assertEquals("Error: Line exceeds " + LineConnection.MAX_LINE_LENGTH + " bytes", in.readLine());
+            assertEquals("half past seven", in.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop reading while the client does not drain its answers, and lose none")
+    void testBackpressure() throws Exception {
+        TimeConverterService converter = new TimeConverterService();
+        int lines = 200_000;
+        StringBuilder request = new StringBuilder();
+        List<String> expected = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Time time = Time.ofMinuteOfDay(i % 1440);
+            request.append(time.getHours()).append(':').append(time.getMinutes()).append('\n');
+            expected.add(converter.convert(time));
+        }
+
+        try (Socket socket = connect()) {
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                try {
+                    send(socket, request.toString());
+                    socket.shutdownOutput();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Thread.sleep(200); // let the socket buffers fill before draining
+
+            BufferedReader in = reader(socket);
+            List<String> answers = new ArrayList<>(lines);
+            String line;
+            while ((line = in.readLine()) != null) {
+                answers.add(line);
+            }
+            writer.join();
+            assertEquals(expected, answers);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve many concurrent connections on its fixed event loops")
+    void testManyConnections() throws Exception {
+        int threadsBefore = Thread.activeCount();
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                sockets.add(connect());
+            }
+            for (Socket socket : sockets) {
+                send(socket, "7:30\n");
+            }
+            for (Socket socket : sockets) {
+                assertEquals("half past seven", reader(socket).readLine());
+            }
+            assertTrue(Thread.activeCount() < threadsBefore + 10, "no thread per connection");
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+}
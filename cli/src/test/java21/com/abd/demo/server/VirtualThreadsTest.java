@@ -0,0 +1,43 @@
+package com.abd.demo.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VirtualThreads Tests")
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("Should run tasks on virtual threads")
+    void testVirtualExecutor() throws Exception {
+        assertTrue(ServerExecutors.isVirtualAvailable());
+        ExecutorService executor = ServerExecutors.create(ServerExecutors.VIRTUAL, 1);
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve conversions with a virtual-thread executor")
+    void testServerOnVirtualThreads() throws Exception {
+        try (HttpConversionServer server = HttpConversionServer.start(new InetSocketAddress("localhost", 0),
+                ServerExecutors.create(ServerExecutors.VIRTUAL, 1))) {
+            URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/convert?time=7:30");
+            HttpResponse<String> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertEquals("half past seven", response.body());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.abd.demo.domain;
+
+import com.abd.demo.domain.exceptions.InvalidTimeException;
+
+/**
+ * Value Object representing a time in 24-hour format.
+ * Immutable and validated upon construction.
+ *
+ * Only 1440 distinct values exist, so {@link #of(int, int)} and {@link #ofMinuteOfDay(int)}
+ * return canonical instances from a preallocated table (Flyweight) instead of allocating.
+ * Hash codes and "HH:MM" strings are precomputed. Instances built with the constructor are
+ * still equal to, and hash like, the canonical ones.
+ */
+public final class Time {
+    private final int hours;
+    private final int minutes;
+    private final int minuteOfDay;
+    private final int hash;
+
+    private static final int MIN_HOURS = 0;
+    private static final int MAX_HOURS = 23;
+    private static final int MIN_MINUTES = 0;
+    private static final int MAX_MINUTES = 59;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    private static final String[] TEXT = new String[MINUTES_PER_DAY];
+    private static final Time[] CACHE = new Time[MINUTES_PER_DAY];
+
+    static {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            int h = minuteOfDay / MINUTES_PER_HOUR;
+            int m = minuteOfDay % MINUTES_PER_HOUR;
+            TEXT[minuteOfDay] = new String(new char[]{
+                (char) ('0' + h / 10), (char) ('0' + h % 10), ':', (char) ('0' + m / 10), (char) ('0' + m % 10)
+            });
+            CACHE[minuteOfDay] = new Time(h, m);
+        }
+    }
+
+    public Time(int hours, int minutes) {
+        validateHours(hours);
+        validateMinutes(minutes);
+        this.hours = hours;
+        this.minutes = minutes;
+        this.minuteOfDay = hours * MINUTES_PER_HOUR + minutes;
+        this.hash = 31 * (31 + hours) + minutes;
+    }
+
+    /**
+     * Returns the canonical instance for the given time.
+     *
+     * @param hours hours (0-23)
+     * @param minutes minutes (0-59)
+     * @return shared immutable instance
+     * @throws InvalidTimeException if either field is out of range
+     */
+    public static Time of(int hours, int minutes) {
+        validateHours(hours);
+        validateMinutes(minutes);
+        return CACHE[hours * MINUTES_PER_HOUR + minutes];
+    }
+
+    /**
+     * Returns the canonical instance for a number of minutes since midnight.
+     *
+     * @param minuteOfDay minutes since midnight (0-1439)
+     * @return shared immutable instance
+     * @throws InvalidTimeException if the value is out of range
+     */
+    public static Time ofMinuteOfDay(int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new InvalidTimeException(
+                "Minute of day must be between 0 and " + (MINUTES_PER_DAY - 1) + ", got: " + minuteOfDay);
+        }
+        return CACHE[minuteOfDay];
+    }
+
+    private static void validateHours(int hours) {
+        if (hours < MIN_HOURS || hours > MAX_HOURS) {
+            throw new InvalidTimeException(
+                "Hours must be between " + MIN_HOURS + " and " + MAX_HOURS + ", got: " + hours);
+        }
+    }
+
+    private static void validateMinutes(int minutes) {
+        if (minutes < MIN_MINUTES || minutes > MAX_MINUTES) {
+            throw new InvalidTimeException(
+                "Minutes must be between " + MIN_MINUTES + " and " + MAX_MINUTES + ", got: " + minutes);
+        }
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * @return minutes since midnight (hours * 60 + minutes)
+     */
+    public int minuteOfDay() {
+        return minuteOfDay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Time time = (Time) o;
+        return minuteOfDay == time.minuteOfDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return TEXT[minuteOfDay];
+    }
+}
@@ -0,0 +1,62 @@
+package com.abd.demo.service;
+
+/**
+ * Parses many newline-delimited time records from a byte buffer in one call.
+ * Each record produces exactly what {@link TimeParser#parseMinuteOfDay(byte[], int, int)}
+ * returns for it (packed results, see {@link ParseResult}).
+ *
+ * Records are separated by '\n'; a trailing '\n' ends the last record and does not start
+ * an empty one. A '\r' before the newline is treated as whitespace, as in TimeParser.
+ */
+public interface BatchTimeParser {
+
+    String VECTOR_IMPLEMENTATION = "com.abd.demo.service.VectorBatchTimeParser";
+
+    /**
+     * Parses all records in the region into the output array.
+     *
+     * @param input bytes holding the records
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param output receives one packed result per record, from index 0;
+     *               must have room for every record (see {@link #countRecords})
+     * @return number of records written
+     */
+    int parseLines(byte[] input, int offset, int length, int[] output);
+
+    /**
+     * Counts the records parseLines would produce for the region.
+     *
+     * @param input bytes holding the records
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @return number of records
+     */
+    static int countRecords(byte[] input, int offset, int length) {
+        int count = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (input[i] == '\n') {
+                count++;
+            }
+        }
+        return length > 0 && input[end - 1] != '\n' ? count + 1 : count;
+    }
+
+    /**
+     * Returns the Vector API implementation when it was compiled in (the 'vector' build profile)
+     * and the jdk.incubator.vector module is available at runtime, otherwise the scalar one.
+     *
+     * @param parser parser used for records outside the vector fast path
+     * @return best available batch parser
+     */
+    static BatchTimeParser create(TimeParser parser) {
+        try {
+            return (BatchTimeParser) Class.forName(VECTOR_IMPLEMENTATION)
+                .getConstructor(TimeParser.class)
+                .newInstance(parser);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarBatchTimeParser(parser);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.TimeConversionException;
+import com.abd.demo.service.rule.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * British English time converter for times with minutes divisible by 5.
+ * Handles British-specific phrases like "quarter past", "half past", "midnight", "noon", "o'clock".
+ * Uses Strategy Pattern with separate rule classes:
+ * - Each conversion rule is encapsulated in its own class
+ * - Rules are evaluated by priority order
+ * - Follows Open/Closed Principle - add new rules without modifying this class
+ *
+ * Rules are evaluated once per minute of the day at construction, and the winning rule is
+ * stored in a 1440-slot dispatch array, so a conversion is one array load and one convert call.
+ * See {@link #coverage()} for which minutes each rule owns.
+ *
+ * The core module has no logging dependency; the dead-rule warning goes to the JDK's
+ * {@link System.Logger}, which is only looked up when a warning is actually issued.
+ */
+public class BritishTimeConverter implements TimeToWordsConverter {
+
+    private static final int MINUTES_DIVISOR = 5;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private final List<TimeConversionRule> rules;
+    private final TimeConversionRule[] dispatch;
+
+    public BritishTimeConverter() {
+        this(createRules());
+    }
+
+    /**
+     * Creates a converter over custom rules. Rules are sorted by priority;
+     * rules with equal priority keep their list order.
+     *
+     * @param rules conversion rules
+     */
+    public BritishTimeConverter(List<? extends TimeConversionRule> rules) {
+        this.rules = rules.stream()
+            .sorted(Comparator.comparingInt(TimeConversionRule::getPriority))
+            .collect(Collectors.toList());
+        this.dispatch = createDispatch(this.rules);
+
+        for (TimeConversionRule dead : coverage().getDeadRules()) {
+            System.getLogger(BritishTimeConverter.class.getName()).log(System.Logger.Level.WARNING,
+                "Rule {0} can never fire: it owns no minute of the day", dead.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Creates the default conversion rules.
+     */
+    private static List<TimeConversionRule> createRules() {
+        return List.of(
+            new MidnightRule(),
+            new NoonRule(),
+            new OClockRule(),
+            new QuarterPastRule(),
+            new HalfPastRule(),
+            new QuarterToRule(),
+            new MinutesPastRule(),
+            new MinutesToRule()
+        );
+    }
+
+    /**
+     * Evaluates every rule's canHandle once per minute of the day; the first match wins.
+     */
+    private static TimeConversionRule[] createDispatch(List<TimeConversionRule> rules) {
+        TimeConversionRule[] dispatch = new TimeConversionRule[MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            for (TimeConversionRule rule : rules) {
+                if (rule.canHandle(time)) {
+                    dispatch[minuteOfDay] = rule;
+                    break;
+                }
+            }
+        }
+        return dispatch;
+    }
+
+    /**
+     * Returns the conversion rules in evaluation order.
+     *
+     * @return unmodifiable view of the rules, sorted by priority
+     */
+    public List<TimeConversionRule> getRules() {
+        return Collections.unmodifiableList(rules);
+    }
+
+    /**
+     * Reports which minutes each rule owns and which rules can never fire.
+     *
+     * @return coverage of the dispatch array
+     */
+    public RuleCoverage coverage() {
+        return new RuleCoverage(rules, dispatch);
+    }
+
+    /**
+     * Returns the rule dispatched for a minute of the day, or null if no rule handles it.
+     */
+    TimeConversionRule ruleFor(int minuteOfDay) {
+        return dispatch[minuteOfDay];
+    }
+
+    @Override
+    public boolean canHandle(Time time) {
+        return time.getMinutes() % MINUTES_DIVISOR == 0;
+    }
+
+    @Override
+    public String convert(Time time) {
+        TimeConversionRule rule = dispatch[time.minuteOfDay()];
+        if (rule == null) {
+            throw new TimeConversionException("No rule matched for time: " + time);
+        }
+        return rule.convert(time);
+    }
+}
@@ -0,0 +1,30 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.TimeConversionException;
+
+/**
+ * Base class of the converters emitted by {@link RuleConverterGenerator}.
+ * The generated subclass implements {@link #convert(Time)} itself, so every generated
+ * class gets its own call-site profile; this class only supplies canHandle and the
+ * error path shared by all generated code.
+ */
+abstract class CompiledRuleConverter implements TimeToWordsConverter {
+    private final TimeToWordsConverter source;
+
+    protected CompiledRuleConverter(TimeToWordsConverter source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean canHandle(Time time) {
+        return source.canHandle(time);
+    }
+
+    /**
+     * Called by generated code for minutes no rule handles.
+     */
+    static String noRule(int minuteOfDay) {
+        throw new TimeConversionException("No rule matched for time: " + Time.ofMinuteOfDay(minuteOfDay));
+    }
+}
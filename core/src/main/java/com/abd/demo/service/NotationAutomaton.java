@@ -0,0 +1,381 @@
+package com.abd.demo.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Deterministic finite automaton compiled from the {@link TimeNotation} grammar.
+ * Pattern i is reported as notation id i + 1 in packed results.
+ *
+ * Construction turns every pattern into a sequence of elements, wraps it in optional leading and
+ * trailing whitespace and runs the subset construction over all patterns at once. Each transition
+ * carries the action for the consumed character (which field a digit belongs to, or am/pm), so the
+ * hot path is one class lookup, one table load and one accumulate per character: no backtracking
+ * and no substrings. Grammars where the same input position could mean two different fields are
+ * rejected at construction time.
+ */
+final class NotationAutomaton {
+    // Transition actions
+    private static final int NONE = 0;
+    private static final int HOUR_DIGIT = 1;
+    private static final int MINUTE_DIGIT = 2;
+    private static final int SECOND_DIGIT = 3;
+    private static final int ANTE_MERIDIEM = 4;
+    private static final int POST_MERIDIEM = 5;
+
+    // Element kinds and quantifiers
+    private static final int DIGIT = 0;
+    private static final int MERIDIEM = 1;
+    private static final int BLANK = 2;
+    private static final int LITERAL = 3;
+    private static final int ONCE = 0;
+    private static final int OPTIONAL = 1;
+    private static final int MANY = 2;
+
+    // Fixed character classes; literals get their own classes after these
+    private static final int OTHER_CLASS = 0;
+    private static final int BLANK_CLASS = 1;
+    private static final int DIGIT_CLASS = 2;
+    private static final int ASCII = 128;
+
+    private static final int DEAD_STATE = 0;
+    private static final int START_STATE = 1;
+    private static final int ACTION_SHIFT = 16;
+    private static final int STATE_MASK = 0xFFFF;
+    private static final int POSITION_BITS = 8;
+
+    // Accumulator layout: three 7-bit fields, meridiem, last field and three 13-bit field offsets
+    private static final int FIELD_BITS = 7;
+    private static final long FIELD_MASK = 0x7F;
+    private static final int MERIDIEM_SHIFT = 21;
+    private static final int LAST_FIELD_SHIFT = 23;
+    private static final int START_SHIFT = 25;
+    private static final int START_BITS = 13;
+    private static final long START_MASK = 0x1FFF;
+    private static final int MAX_FIELD_VALUE = 127;
+
+    private static final int MAX_HOURS = 23;
+    private static final int MAX_TWELVE_HOUR = 12;
+    private static final int MAX_MINUTES = 59;
+    private static final int MAX_SECONDS = 59;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final boolean[] twelveHour;
+    private final byte[] classes;
+    private final int classCount;
+    private final int[] transitions;
+    private final int[] acceptingNotation; // notation id, or 0
+
+    private NotationAutomaton(boolean[] twelveHour, byte[] classes, int classCount,
+                              int[] transitions, int[] acceptingNotation) {
+        this.twelveHour = twelveHour;
+        this.classes = classes;
+        this.classCount = classCount;
+        this.transitions = transitions;
+        this.acceptingNotation = acceptingNotation;
+    }
+
+    /**
+     * Compiles the given notations into one automaton, in declaration order.
+     *
+     * @param notations notations to recognise
+     * @return compiled automaton
+     */
+    static NotationAutomaton compile(TimeNotation... notations) {
+        String[] patterns = new String[notations.length];
+        for (int i = 0; i < notations.length; i++) {
+            patterns[i] = notations[i].getPattern();
+        }
+        return compile(patterns);
+    }
+
+    /**
+     * Compiles patterns (see {@link TimeNotation} for the syntax) into one automaton.
+     * Earlier patterns win ties.
+     *
+     * @param patterns patterns to recognise
+     * @return compiled automaton
+     * @throws IllegalArgumentException if a pattern is malformed or the grammar is ambiguous
+     */
+    static NotationAutomaton compile(String... patterns) {
+        byte[] classes = new byte[ASCII];
+        for (int ch = 0; ch <= ' '; ch++) {
+            classes[ch] = BLANK_CLASS;
+        }
+        for (int ch = '0'; ch <= '9'; ch++) {
+            classes[ch] = DIGIT_CLASS;
+        }
+        int[] classCount = {DIGIT_CLASS + 1};
+
+        List<int[][]> elements = new ArrayList<>();
+        boolean[] twelveHour = new boolean[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            elements.add(parsePattern(patterns[i], classes, classCount));
+            twelveHour[i] = patterns[i].indexOf('P') >= 0;
+        }
+        return build(twelveHour, elements, classes, classCount[0]);
+    }
+
+    /**
+     * Runs the automaton over characters [start, end) of the sequence.
+     *
+     * @return packed result, see {@link ParseResult}
+     */
+    int run(CharSequence input, int start, int end) {
+        int state = START_STATE;
+        long fields = 0;
+        for (int i = start; i < end; i++) {
+            char ch = input.charAt(i);
+            int transition = transitions[state * classCount + (ch < ASCII ? classes[ch] : OTHER_CLASS)];
+            state = transition & STATE_MASK;
+            if (state == DEAD_STATE) {
+                return ParseResult.error(ParseResult.UNKNOWN_NOTATION, i - start);
+            }
+            fields = accumulate(fields, transition >>> ACTION_SHIFT, ch, i - start);
+        }
+        return finish(state, fields, end - start);
+    }
+
+    /**
+     * Runs the automaton over a byte[] slice of ASCII/UTF-8 text.
+     *
+     * @return packed result, see {@link ParseResult}
+     */
+    int run(byte[] input, int offset, int length) {
+        int state = START_STATE;
+        long fields = 0;
+        for (int i = 0; i < length; i++) {
+            int ch = input[offset + i] & 0xFF;
+            int transition = transitions[state * classCount + (ch < ASCII ? classes[ch] : OTHER_CLASS)];
+            state = transition & STATE_MASK;
+            if (state == DEAD_STATE) {
+                return ParseResult.error(ParseResult.UNKNOWN_NOTATION, i);
+            }
+            fields = accumulate(fields, transition >>> ACTION_SHIFT, ch, i);
+        }
+        return finish(state, fields, length);
+    }
+
+    int stateCount() {
+        return transitions.length / classCount;
+    }
+
+    private static long accumulate(long fields, int action, int ch, int offset) {
+        switch (action) {
+            case NONE:
+                return fields;
+            case ANTE_MERIDIEM:
+            case POST_MERIDIEM:
+                return fields | ((long) (action - ANTE_MERIDIEM + 1) << MERIDIEM_SHIFT);
+            default:
+                if (((fields >>> LAST_FIELD_SHIFT) & 0x3) != action) {
+                    // First digit of a field: remember where it starts
+                    int startShift = START_SHIFT + (action - HOUR_DIGIT) * START_BITS;
+                    fields = (fields & ~(0x3L << LAST_FIELD_SHIFT)) | ((long) action << LAST_FIELD_SHIFT)
+                        | ((long) Math.min(offset, START_MASK) << startShift);
+                }
+                int shift = (action - HOUR_DIGIT) * FIELD_BITS;
+                int value = (int) ((fields >>> shift) & FIELD_MASK);
+                int next = Math.min(value * 10 + (ch - '0'), MAX_FIELD_VALUE);
+                return (fields & ~(FIELD_MASK << shift)) | ((long) next << shift);
+        }
+    }
+
+    private int finish(int state, long fields, int length) {
+        int accepted = acceptingNotation[state];
+        if (accepted == 0) {
+            return ParseResult.error(state == START_STATE ? ParseResult.EMPTY : ParseResult.UNKNOWN_NOTATION,
+                state == START_STATE ? 0 : length);
+        }
+
+        int hours = field(fields, HOUR_DIGIT);
+        int minutes = field(fields, MINUTE_DIGIT);
+        int seconds = field(fields, SECOND_DIGIT);
+        boolean twelveHourClock = twelveHour[accepted - 1];
+
+        if (twelveHourClock ? hours < 1 || hours > MAX_TWELVE_HOUR : hours > MAX_HOURS) {
+            return ParseResult.error(ParseResult.HOURS_OUT_OF_RANGE, fieldStart(fields, HOUR_DIGIT));
+        }
+        if (minutes > MAX_MINUTES) {
+            return ParseResult.error(ParseResult.MINUTES_OUT_OF_RANGE, fieldStart(fields, MINUTE_DIGIT));
+        }
+        if (seconds > MAX_SECONDS) {
+            return ParseResult.error(ParseResult.SECONDS_OUT_OF_RANGE, fieldStart(fields, SECOND_DIGIT));
+        }
+        if (twelveHourClock) {
+            boolean postMeridiem = ((fields >>> MERIDIEM_SHIFT) & 0x3) == POST_MERIDIEM - ANTE_MERIDIEM + 1;
+            hours = hours % MAX_TWELVE_HOUR + (postMeridiem ? MAX_TWELVE_HOUR : 0);
+        }
+        return ParseResult.withNotation(hours * MINUTES_PER_HOUR + minutes, accepted);
+    }
+
+    private static int field(long fields, int action) {
+        return (int) ((fields >>> ((action - HOUR_DIGIT) * FIELD_BITS)) & FIELD_MASK);
+    }
+
+    private static int fieldStart(long fields, int action) {
+        return (int) ((fields >>> (START_SHIFT + (action - HOUR_DIGIT) * START_BITS)) & START_MASK);
+    }
+
+    /**
+     * Parses a pattern into elements of {kind, quantifier, class, action},
+     * wrapped in optional leading and trailing whitespace.
+     */
+    private static int[][] parsePattern(String pattern, byte[] classes, int[] classCount) {
+        List<int[]> elements = new ArrayList<>();
+        elements.add(new int[]{BLANK, MANY, BLANK_CLASS, NONE});
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            switch (ch) {
+                case 'H':
+                    elements.add(new int[]{DIGIT, ONCE, DIGIT_CLASS, HOUR_DIGIT});
+                    break;
+                case 'M':
+                    elements.add(new int[]{DIGIT, ONCE, DIGIT_CLASS, MINUTE_DIGIT});
+                    break;
+                case 'S':
+                    elements.add(new int[]{DIGIT, ONCE, DIGIT_CLASS, SECOND_DIGIT});
+                    break;
+                case 'P':
+                    literalClass('a', classes, classCount);
+                    literalClass('p', classes, classCount);
+                    elements.add(new int[]{MERIDIEM, ONCE, OTHER_CLASS, NONE});
+                    break;
+                case ' ':
+                    elements.add(new int[]{BLANK, ONCE, BLANK_CLASS, NONE});
+                    break;
+                case '?':
+                    if (elements.size() == 1) {
+                        throw new IllegalArgumentException("Nothing to make optional in pattern: " + pattern);
+                    }
+                    elements.get(elements.size() - 1)[1] = OPTIONAL;
+                    break;
+                case '\'':
+                    if (i + 2 >= pattern.length() || pattern.charAt(i + 2) != '\'' || pattern.charAt(i + 1) >= ASCII) {
+                        throw new IllegalArgumentException("Unterminated literal in pattern: " + pattern);
+                    }
+                    elements.add(new int[]{LITERAL, ONCE, literalClass(pattern.charAt(i + 1), classes, classCount), NONE});
+                    i += 2;
+                    break;
+                default:
+                    if (Character.isLetterOrDigit(ch) || ch >= ASCII) {
+                        throw new IllegalArgumentException("Unquoted '" + ch + "' in pattern: " + pattern);
+                    }
+                    elements.add(new int[]{LITERAL, ONCE, literalClass(ch, classes, classCount), NONE});
+            }
+        }
+
+        elements.add(new int[]{BLANK, MANY, BLANK_CLASS, NONE});
+        return elements.toArray(new int[0][]);
+    }
+
+    /**
+     * Returns the class of a literal character, allocating one (shared by both letter cases) if needed.
+     */
+    private static int literalClass(char ch, byte[] classes, int[] classCount) {
+        if (classes[ch] != OTHER_CLASS) {
+            return classes[ch];
+        }
+        int cls = classCount[0]++;
+        classes[Character.toLowerCase(ch)] = (byte) cls;
+        classes[Character.toUpperCase(ch)] = (byte) cls;
+        return cls;
+    }
+
+    /**
+     * Subset construction. NFA items are encoded as (pattern index, element position).
+     */
+    private static NotationAutomaton build(boolean[] twelveHour, List<int[][]> patterns,
+                                           byte[] classes, int classCount) {
+        int meridiemAnte = classes['a'];
+        int meridiemPost = classes['p'];
+
+        List<TreeSet<Integer>> states = new ArrayList<>();
+        Map<TreeSet<Integer>, Integer> ids = new HashMap<>();
+        states.add(new TreeSet<>()); // dead state
+        ids.put(states.get(DEAD_STATE), DEAD_STATE);
+
+        TreeSet<Integer> start = new TreeSet<>();
+        for (int p = 0; p < patterns.size(); p++) {
+            start.add(p << POSITION_BITS);
+        }
+        start = closure(start, patterns);
+        states.add(start);
+        ids.put(start, START_STATE);
+
+        List<int[]> rows = new ArrayList<>();
+        rows.add(new int[classCount]);
+        for (int s = START_STATE; s < states.size(); s++) {
+            int[] row = new int[classCount];
+            for (int cls = 0; cls < classCount; cls++) {
+                TreeSet<Integer> next = new TreeSet<>();
+                int action = -1;
+                for (int item : states.get(s)) {
+                    int[][] elements = patterns.get(item >>> POSITION_BITS);
+                    int position = item & ((1 << POSITION_BITS) - 1);
+                    if (position == elements.length) {
+                        continue;
+                    }
+                    int[] element = elements[position];
+                    boolean meridiem = element[0] == MERIDIEM && (cls == meridiemAnte || cls == meridiemPost);
+                    if (!meridiem && (element[0] == MERIDIEM || element[2] != cls)) {
+                        continue;
+                    }
+                    int itemAction = meridiem ? (cls == meridiemAnte ? ANTE_MERIDIEM : POST_MERIDIEM) : element[3];
+                    if (action >= 0 && action != itemAction) {
+                        throw new IllegalArgumentException("Ambiguous grammar: one character would update two fields");
+                    }
+                    action = itemAction;
+                    next.add(element[1] == MANY ? item : item + 1);
+                }
+                if (next.isEmpty()) {
+                    continue;
+                }
+                next = closure(next, patterns);
+                Integer id = ids.get(next);
+                if (id == null) {
+                    id = states.size();
+                    states.add(next);
+                    ids.put(next, id);
+                }
+                row[cls] = (action << ACTION_SHIFT) | id;
+            }
+            rows.add(row);
+        }
+
+        int[] transitions = new int[states.size() * classCount];
+        int[] accepting = new int[states.size()];
+        for (int s = 0; s < states.size(); s++) {
+            System.arraycopy(rows.get(s), 0, transitions, s * classCount, classCount);
+            for (int item : states.get(s)) {
+                int pattern = item >>> POSITION_BITS;
+                boolean atEnd = (item & ((1 << POSITION_BITS) - 1)) == patterns.get(pattern).length;
+                if (atEnd && (accepting[s] == 0 || pattern + 1 < accepting[s])) {
+                    accepting[s] = pattern + 1;
+                }
+            }
+        }
+        return new NotationAutomaton(twelveHour, classes, classCount, transitions, accepting);
+    }
+
+    /**
+     * Adds the items reachable by skipping optional and repeated elements.
+     */
+    private static TreeSet<Integer> closure(TreeSet<Integer> items, List<int[][]> patterns) {
+        TreeSet<Integer> result = new TreeSet<>(items);
+        List<Integer> pending = new ArrayList<>(items);
+        while (!pending.isEmpty()) {
+            int item = pending.remove(pending.size() - 1);
+            int[][] elements = patterns.get(item >>> POSITION_BITS);
+            int position = item & ((1 << POSITION_BITS) - 1);
+            if (position < elements.length && elements[position][1] != ONCE && result.add(item + 1)) {
+                pending.add(item + 1);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package com.abd.demo.service;
+
+/**
+ * Codec for the packed primitive results returned by the allocation-free TimeParser API.
+ *
+ * A result is a single int:
+ * - non-negative: minute of day (hours * 60 + minutes, 0-1439) in bits 0-15, and the matched
+ *   {@link TimeNotation} id in bits 16-23 (0 for the plain TimeParser format)
+ * - negative: error, with the error code in bits 24-30 and the offending offset in bits 0-23
+ *
+ * Offsets are relative to the start of the parsed region and saturate at {@link #MAX_OFFSET}.
+ */
+public final class ParseResult {
+    public static final int EMPTY = 1;
+    public static final int NOT_A_NUMBER = 2;
+    public static final int TOO_MANY_SEPARATORS = 3;
+    public static final int MISSING_FIELD = 4;
+    public static final int HOURS_OUT_OF_RANGE = 5;
+    public static final int MINUTES_OUT_OF_RANGE = 6;
+    public static final int SECONDS_OUT_OF_RANGE = 7;
+    public static final int UNKNOWN_NOTATION = 8;
+
+    public static final int MAX_OFFSET = 0x00FF_FFFF;
+
+    private static final int ERROR_FLAG = 0x8000_0000;
+    private static final int CODE_SHIFT = 24;
+    private static final int CODE_MASK = 0x7F;
+    private static final int NOTATION_SHIFT = 16;
+    private static final int NOTATION_MASK = 0xFF;
+    private static final int MINUTE_OF_DAY_MASK = 0xFFFF;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private ParseResult() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Packs an error code and offset into a result.
+     *
+     * @param code one of the error code constants
+     * @param offset offset of the offending character
+     * @return negative packed result
+     */
+    public static int error(int code, int offset) {
+        return ERROR_FLAG | (code << CODE_SHIFT) | Math.min(offset, MAX_OFFSET);
+    }
+
+    /**
+     * Packs a valid minute of day together with the notation it was written in.
+     *
+     * @param minuteOfDay minutes since midnight (0-1439)
+     * @param notationId id of the matched notation, see {@link TimeNotation#getId()}
+     * @return non-negative packed result
+     */
+    public static int withNotation(int minuteOfDay, int notationId) {
+        return (notationId << NOTATION_SHIFT) | minuteOfDay;
+    }
+
+    public static boolean isValid(int result) {
+        return result >= 0;
+    }
+
+    public static int minuteOfDay(int result) {
+        return result & MINUTE_OF_DAY_MASK;
+    }
+
+    public static int hours(int result) {
+        return minuteOfDay(result) / MINUTES_PER_HOUR;
+    }
+
+    public static int minutes(int result) {
+        return minuteOfDay(result) % MINUTES_PER_HOUR;
+    }
+
+    public static int notationId(int result) {
+        return (result >>> NOTATION_SHIFT) & NOTATION_MASK;
+    }
+
+    public static int errorCode(int result) {
+        return (result >>> CODE_SHIFT) & CODE_MASK;
+    }
+
+    public static int errorOffset(int result) {
+        return result & MAX_OFFSET;
+    }
+
+    /**
+     * Returns a human readable description of an error code.
+     *
+     * @param code error code
+     * @return constant message for the code
+     */
+    public static String describe(int code) {
+        switch (code) {
+            case EMPTY:
+                return "Time input cannot be empty";
+            case NOT_A_NUMBER:
+                return "Invalid time format. Hours and minutes must be numbers.";
+            case TOO_MANY_SEPARATORS:
+                return "Invalid time format. Expected exactly one colon separator";
+            case MISSING_FIELD:
+                return "Invalid time format. Both hours and minutes are required";
+            case HOURS_OUT_OF_RANGE:
+                return "Hours must be between 0 and 23";
+            case MINUTES_OUT_OF_RANGE:
+                return "Minutes must be between 0 and 59";
+            case SECONDS_OUT_OF_RANGE:
+                return "Seconds must be between 0 and 59";
+            case UNKNOWN_NOTATION:
+                return "Unrecognised time notation";
+            default:
+                return "Unknown parse error " + code;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.TimeConversionException;
+import com.abd.demo.service.rule.TimeConversionRule;
+
+/**
+ * Precomputed table of spoken phrases for every minute of the day.
+ * The whole output domain is only 24 x 60 = 1440 strings, so they are built once
+ * from the conversion rules and looked up by minute-of-day afterwards.
+ *
+ * Phrases are interned, so every lookup for the same minute returns the same shared String.
+ * On construction the table is verified against an independent path: a {@link BritishTimeConverter} is checked
+ * by walking its rules in priority order, rather than through its dispatch array.
+ */
+public final class PhraseTable {
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    private final String[] phrases;
+
+    private PhraseTable(String[] phrases) {
+        this.phrases = phrases;
+    }
+
+    /**
+     * Builds the table using the same selection as TimeConverterService:
+     * the special converter when it can handle the time, otherwise the general converter.
+     * A BritishTimeConverter is read through its dispatch array here and checked against its rules by verify.
+     *
+     * @param specialConverter converter for special cases
+     * @param generalConverter fallback converter
+     * @return verified phrase table
+     * @throws TimeConversionException if any entry differs from the converter path
+     */
+    public static PhraseTable build(TimeToWordsConverter specialConverter, TimeToWordsConverter generalConverter) {
+        String[] phrases = new String[MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            String phrase = specialConverter.canHandle(time)
+                ? specialConverter.convert(time)
+                : generalConverter.convert(time);
+            phrases[minuteOfDay] = phrase.intern();
+        }
+
+        PhraseTable table = new PhraseTable(phrases);
+        table.verify(specialConverter, generalConverter);
+        return table;
+    }
+
+    /**
+     * Returns the phrase for the given minute of the day.
+     *
+     * @param minuteOfDay minutes since midnight (0-1439)
+     * @return shared, interned phrase
+     */
+    public String phrase(int minuteOfDay) {
+        return phrases[minuteOfDay];
+    }
+
+    /**
+     * Returns the phrase for the given time.
+     *
+     * @param time the time to look up
+     * @return shared, interned phrase
+     */
+    public String phrase(Time time) {
+        return phrases[time.minuteOfDay()];
+    }
+
+    /**
+     * Checks every entry against the rule chain: a BritishTimeConverter's rules are walked in priority order, the
+     * first that can handle the time converts it. Any other special converter is called again, which only catches
+     * converters that are not deterministic.
+     */
+    private void verify(TimeToWordsConverter specialConverter, TimeToWordsConverter generalConverter) {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            String expected = specialConverter.canHandle(time)
+                ? convertByRules(specialConverter, time)
+                : generalConverter.convert(time);
+            if (!phrases[minuteOfDay].equals(expected)) {
+                throw new TimeConversionException(
+                    "Phrase table mismatch for " + time + ": '" + phrases[minuteOfDay] + "' != '" + expected + "'");
+            }
+        }
+    }
+
+    private static String convertByRules(TimeToWordsConverter specialConverter, Time time) {
+        if (!(specialConverter instanceof BritishTimeConverter)) {
+            return specialConverter.convert(time);
+        }
+        for (TimeConversionRule rule : ((BritishTimeConverter) specialConverter).getRules()) {
+            if (rule.canHandle(time)) {
+                return rule.convert(time);
+            }
+        }
+        throw new TimeConversionException("No rule matched for time: " + time);
+    }
+}
@@ -0,0 +1,424 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.rule.TimeConversionRule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Generates a converter class specialised to one rule set and defines it as a hidden class.
+ *
+ * The rules' dispatch (see {@link BritishTimeConverter}) is evaluated once, and every phrase becomes
+ * a String constant in the generated class. The generated {@code convert} method is a
+ * {@code tableswitch} over the hour, calling one static method per hour that is a {@code tableswitch}
+ * over the minute returning a constant. Splitting by hour keeps every method well under HotSpot's
+ * 8000-byte huge-method limit, so all of them are JIT-compiled, and constant-pool Strings are interned,
+ * so tenants with overlapping phrases share the same String instances.
+ *
+ * Rules are assumed to be pure functions of the time, as for {@link PhraseTable}. If a rule throws
+ * while being evaluated, or the class cannot be defined, the converter's own rule dispatch is returned,
+ * with a warning on the JDK's {@link System.Logger}.
+ */
+public final class RuleConverterGenerator {
+    private static final String CLASS_NAME = "com/abd/demo/service/GeneratedRuleConverter";
+    private static final String SUPER_NAME = "com/abd/demo/service/CompiledRuleConverter";
+    private static final String TIME_NAME = "com/abd/demo/domain/Time";
+    private static final String SOURCE_DESCRIPTOR = "(Lcom/abd/demo/service/TimeToWordsConverter;)V";
+    private static final String PHRASE_DESCRIPTOR = "(I)Ljava/lang/String;";
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int CLASS_FILE_MAJOR_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ACONST_NULL = 0x01;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ILOAD_0 = 0x1a;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int IDIV = 0x6c;
+    private static final int IREM = 0x70;
+    private static final int TABLESWITCH = 0xaa;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    private RuleConverterGenerator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Generates a specialised converter for the given rule set.
+     *
+     * @param rules rules, evaluated in priority order as by {@link BritishTimeConverter}
+     * @return generated converter, or a BritishTimeConverter over the rules if generation fails
+     */
+    public static TimeToWordsConverter generate(List<? extends TimeConversionRule> rules) {
+        return generate(new BritishTimeConverter(rules));
+    }
+
+    /**
+     * Generates a specialised converter with the same results as the given converter.
+     *
+     * @param converter converter whose rule dispatch is compiled
+     * @return generated converter, or {@code converter} itself if generation fails
+     */
+    public static TimeToWordsConverter generate(BritishTimeConverter converter) {
+        String[] phrases = new String[MINUTES_PER_HOUR * HOURS_PER_DAY];
+        boolean[] handled = new boolean[phrases.length];
+        try {
+            for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+                TimeConversionRule rule = converter.ruleFor(minuteOfDay);
+                if (rule != null) {
+                    phrases[minuteOfDay] = rule.convert(Time.ofMinuteOfDay(minuteOfDay));
+                    handled[minuteOfDay] = true;
+                }
+            }
+        } catch (RuntimeException e) {
+            warn("Rule evaluation failed, using the rule chain instead: {0}", e.getMessage());
+            return converter;
+        }
+
+        try {
+            byte[] classFile = writeClass(phrases, handled);
+            Class<?> generated = MethodHandles.lookup().defineHiddenClass(classFile, true).lookupClass();
+            return (TimeToWordsConverter) generated.getConstructor(TimeToWordsConverter.class).newInstance(converter);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // RuntimeException covers the emitter too, e.g. the UncheckedIOException of a phrase that does not fit
+            // a constant pool entry
+            warn("Converter generation failed, using the rule chain instead: {0}", e.toString());
+            return converter;
+        }
+    }
+
+    private static void warn(String format, Object detail) {
+        System.getLogger(RuleConverterGenerator.class.getName()).log(System.Logger.Level.WARNING, format, detail);
+    }
+
+    static byte[] writeClass(String[] phrases, boolean[] handled) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(CLASS_NAME);
+        int superClass = pool.classRef(SUPER_NAME);
+        List<byte[]> methods = new ArrayList<>();
+
+        Code init = new Code();
+        init.op(ALOAD_0).op(ALOAD_1).op(INVOKESPECIAL).u2(pool.methodRef(SUPER_NAME, "<init>", SOURCE_DESCRIPTOR)).op(RETURN);
+        methods.add(method(pool, ACC_PUBLIC, "<init>", SOURCE_DESCRIPTOR, init, 2, 2));
+
+        Code convert = new Code();
+        convert.op(ALOAD_1).op(INVOKEVIRTUAL).u2(pool.methodRef(TIME_NAME, "minuteOfDay", "()I"))
+            .op(INVOKESTATIC).u2(pool.methodRef(CLASS_NAME, "phrase", PHRASE_DESCRIPTOR))
+            .op(ARETURN);
+        methods.add(method(pool, ACC_PUBLIC, "convert", "(L" + TIME_NAME + ";)Ljava/lang/String;", convert, 1, 2));
+
+        int noRule = pool.methodRef(SUPER_NAME, "noRule", PHRASE_DESCRIPTOR);
+
+        // phrase(minuteOfDay): switch on the hour
+        Code phrase = new Code();
+        phrase.op(ILOAD_0).op(BIPUSH).u1(MINUTES_PER_HOUR).op(IDIV);
+        int hourSwitch = phrase.tableSwitch(HOURS_PER_DAY);
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            phrase.caseTarget(hourSwitch, hour);
+            phrase.op(ILOAD_0).op(INVOKESTATIC).u2(pool.methodRef(CLASS_NAME, "hour" + hour, PHRASE_DESCRIPTOR)).op(ARETURN);
+        }
+        phrase.defaultTarget(hourSwitch);
+        phrase.op(ILOAD_0).op(INVOKESTATIC).u2(noRule).op(ARETURN);
+        methods.add(method(pool, ACC_PRIVATE | ACC_STATIC, "phrase", PHRASE_DESCRIPTOR, phrase, 2, 1));
+
+        // hourN(minuteOfDay): switch on the minute; minutes with the same phrase share one branch
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            Code code = new Code();
+            code.op(ILOAD_0).op(BIPUSH).u1(MINUTES_PER_HOUR).op(IREM);
+            int minuteSwitch = code.tableSwitch(MINUTES_PER_HOUR);
+            Map<String, Integer> branches = new HashMap<>();
+            for (int minute = 0; minute < MINUTES_PER_HOUR; minute++) {
+                int minuteOfDay = hour * MINUTES_PER_HOUR + minute;
+                if (!handled[minuteOfDay]) {
+                    code.caseTarget(minuteSwitch, minute);
+                    code.op(SIPUSH).u2(minuteOfDay).op(INVOKESTATIC).u2(noRule).op(ARETURN);
+                    continue;
+                }
+                Integer shared = branches.get(phrases[minuteOfDay]);
+                if (shared != null) {
+                    code.caseTarget(minuteSwitch, minute, shared);
+                    continue;
+                }
+                branches.put(phrases[minuteOfDay], code.caseTarget(minuteSwitch, minute));
+                if (phrases[minuteOfDay] == null) {
+                    code.op(ACONST_NULL);
+                } else {
+                    code.op(LDC_W).u2(pool.string(phrases[minuteOfDay]));
+                }
+                code.op(ARETURN);
+            }
+            code.defaultTarget(minuteSwitch);
+            code.op(ILOAD_0).op(INVOKESTATIC).u2(noRule).op(ARETURN);
+            methods.add(method(pool, ACC_PRIVATE | ACC_STATIC, "hour" + hour, PHRASE_DESCRIPTOR, code, 2, 1));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_MAJOR_VERSION);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0); // interfaces
+            out.writeShort(0); // fields
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0); // attributes
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Serialises a method_info with a Code attribute and, when there are branches, a StackMapTable.
+     * Every branch target has the method's initial frame (no stack, unchanged locals), so all entries
+     * are same_frame or same_frame_extended.
+     */
+    private static byte[] method(ConstantPool pool, int access, String name, String descriptor,
+                                 Code code, int maxStack, int maxLocals) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            byte[] frames = code.stackMapTable();
+            byte[] body = code.toByteArray();
+
+            out.writeShort(access);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(pool.utf8("Code"));
+            int stackMapLength = frames == null ? 0 : 6 + frames.length;
+            out.writeInt(2 + 2 + 4 + body.length + 2 + 2 + stackMapLength);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeShort(0); // exception table
+            if (frames == null) {
+                out.writeShort(0);
+            } else {
+                out.writeShort(1);
+                out.writeShort(pool.utf8("StackMapTable"));
+                out.writeInt(frames.length);
+                out.write(frames);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Constant pool with de-duplicated entries.
+     */
+    private static final class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int STRING = 8;
+        private static final int METHOD_REF = 10;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new LinkedHashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return entry("C" + internalName, () -> {
+                out.writeByte(CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        int string(String value) {
+            int utf8 = utf8(value);
+            return entry("S" + value, () -> {
+                out.writeByte(STRING);
+                out.writeShort(utf8);
+            });
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            int ownerClass = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + ' ' + descriptor, () -> {
+                out.writeByte(NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return entry("M" + owner + '.' + name + descriptor, () -> {
+                out.writeByte(METHOD_REF);
+                out.writeShort(ownerClass);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+
+        private int entry(String key, EntryWriter writer) {
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entries.put(key, count);
+            return count++;
+        }
+
+        @FunctionalInterface
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+
+    /**
+     * Bytecode buffer that patches tableswitch offsets and records branch targets for the StackMapTable.
+     */
+    private static final class Code {
+        private byte[] code = new byte[256];
+        private int length;
+        private final List<Integer> targets = new ArrayList<>();
+
+        Code op(int opcode) {
+            return u1(opcode);
+        }
+
+        Code u1(int value) {
+            ensure(1);
+            code[length++] = (byte) value;
+            return this;
+        }
+
+        Code u2(int value) {
+            return u1(value >>> 8).u1(value);
+        }
+
+        private Code u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        /**
+         * Emits a tableswitch over 0..cases-1 with unpatched offsets; returns the opcode position.
+         */
+        int tableSwitch(int cases) {
+            int position = length;
+            op(TABLESWITCH);
+            while (length % 4 != 0) {
+                u1(0);
+            }
+            u4(0).u4(0).u4(cases - 1);
+            for (int i = 0; i < cases; i++) {
+                u4(0);
+            }
+            return position;
+        }
+
+        /**
+         * Points a case at the current position; returns that position.
+         */
+        int caseTarget(int switchPosition, int caseIndex) {
+            caseTarget(switchPosition, caseIndex, length);
+            targets.add(length);
+            return length;
+        }
+
+        void caseTarget(int switchPosition, int caseIndex, int target) {
+            patch(jumpTable(switchPosition) + 12 + caseIndex * 4, target - switchPosition);
+        }
+
+        void defaultTarget(int switchPosition) {
+            patch(jumpTable(switchPosition), length - switchPosition);
+            targets.add(length);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(code, length);
+        }
+
+        byte[] stackMapTable() {
+            if (targets.isEmpty()) {
+                return null;
+            }
+            List<Integer> sorted = new ArrayList<>(new TreeSet<>(targets));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeShort(sorted.size());
+                int previous = -1;
+                for (int target : sorted) {
+                    int delta = target - previous - 1;
+                    if (delta < 64) {
+                        out.writeByte(delta); // same_frame
+                    } else {
+                        out.writeByte(251); // same_frame_extended
+                        out.writeShort(delta);
+                    }
+                    previous = target;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static int jumpTable(int switchPosition) {
+            return (switchPosition + 4) & ~3;
+        }
+
+        private void patch(int position, int value) {
+            code[position] = (byte) (value >>> 24);
+            code[position + 1] = (byte) (value >>> 16);
+            code[position + 2] = (byte) (value >>> 8);
+            code[position + 3] = (byte) value;
+        }
+
+        private void ensure(int bytes) {
+            if (length + bytes > code.length) {
+                code = Arrays.copyOf(code, Math.max(code.length * 2, length + bytes));
+            }
+        }
+    }
+}
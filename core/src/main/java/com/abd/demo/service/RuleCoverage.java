@@ -0,0 +1,97 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.rule.TimeConversionRule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Diagnostic view of a rule dispatch table: which minutes of the day each rule owns
+ * (i.e. is the first rule to accept), which rules never win a minute, and which minutes
+ * no rule accepts. Dead rules are still instantiated and evaluated at startup for nothing.
+ */
+public final class RuleCoverage {
+    private final List<TimeConversionRule> rules;
+    private final TimeConversionRule[] dispatch;
+
+    RuleCoverage(List<TimeConversionRule> rules, TimeConversionRule[] dispatch) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.dispatch = dispatch.clone();
+    }
+
+    /**
+     * Returns the minutes of the day dispatched to the given rule.
+     *
+     * @param rule one of the converter's rules
+     * @return times owned by the rule, in chronological order
+     */
+    public List<Time> ownedTimes(TimeConversionRule rule) {
+        List<Time> owned = new ArrayList<>();
+        for (int minuteOfDay = 0; minuteOfDay < dispatch.length; minuteOfDay++) {
+            if (dispatch[minuteOfDay] == rule) {
+                owned.add(Time.ofMinuteOfDay(minuteOfDay));
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * Returns the rules that own no minute: either nothing they accept exists,
+     * or every time they accept is claimed by a higher-priority rule.
+     *
+     * @return dead rules, in evaluation order
+     */
+    public List<TimeConversionRule> getDeadRules() {
+        List<TimeConversionRule> dead = new ArrayList<>();
+        for (TimeConversionRule rule : rules) {
+            if (ownedTimes(rule).isEmpty()) {
+                dead.add(rule);
+            }
+        }
+        return dead;
+    }
+
+    /**
+     * Returns the minutes no rule accepts; converting them throws TimeConversionException.
+     *
+     * @return unhandled times, in chronological order
+     */
+    public List<Time> getUnhandledTimes() {
+        return ownedTimes(null);
+    }
+
+    /**
+     * Renders one line per rule with the number of minutes it owns and the first few of them.
+     *
+     * @return multi-line report
+     */
+    public String describe() {
+        StringBuilder report = new StringBuilder();
+        for (TimeConversionRule rule : rules) {
+            appendLine(report, rule.getClass().getSimpleName() + " (priority " + rule.getPriority() + ")",
+                ownedTimes(rule));
+        }
+        List<Time> unhandled = getUnhandledTimes();
+        if (!unhandled.isEmpty()) {
+            appendLine(report, "unhandled", unhandled);
+        }
+        return report.toString();
+    }
+
+    private static void appendLine(StringBuilder report, String label, List<Time> times) {
+        report.append(label).append(": ");
+        if (times.isEmpty()) {
+            report.append("dead, owns no minutes");
+        } else {
+            report.append(times.size()).append(times.size() == 1 ? " minute " : " minutes ");
+            report.append(times.subList(0, Math.min(times.size(), 4)));
+            if (times.size() > 4) {
+                report.setLength(report.length() - 1);
+                report.append(", ...]");
+            }
+        }
+        report.append(System.lineSeparator());
+    }
+}
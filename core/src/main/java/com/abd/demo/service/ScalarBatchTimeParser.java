@@ -0,0 +1,34 @@
+package com.abd.demo.service;
+
+/**
+ * Portable batch parser: finds each newline and parses the record with TimeParser.
+ * Used on every JDK, and as the fallback when the Vector API is not available.
+ */
+public class ScalarBatchTimeParser implements BatchTimeParser {
+    private final TimeParser parser;
+
+    public ScalarBatchTimeParser() {
+        this(new TimeParser());
+    }
+
+    public ScalarBatchTimeParser(TimeParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public int parseLines(byte[] input, int offset, int length, int[] output) {
+        int count = 0;
+        int end = offset + length;
+        int recordStart = offset;
+        for (int i = offset; i < end; i++) {
+            if (input[i] == '\n') {
+                output[count++] = parser.parseMinuteOfDay(input, recordStart, i - recordStart);
+                recordStart = i + 1;
+            }
+        }
+        if (recordStart < end) {
+            output[count++] = parser.parseMinuteOfDay(input, recordStart, end - recordStart);
+        }
+        return count;
+    }
+}
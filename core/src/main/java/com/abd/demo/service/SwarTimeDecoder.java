@@ -0,0 +1,133 @@
+package com.abd.demo.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Decoder for fixed-width, machine-generated time records ("HH:MM" or "HH:MM:SS").
+ * Reads the record as one little-endian long and validates digits, separators and
+ * field values with SIMD-within-a-register arithmetic instead of a per-byte loop.
+ *
+ * Any record that is not fixed-width, or fails the fast check, is handed to
+ * {@link TimeParser#parseMinuteOfDay(byte[], int, int)}, so results (including error codes)
+ * are the same as the general parser's. The one extension is "HH:MM:SS": seconds are
+ * validated and then dropped, since the general parser does not accept them.
+ *
+ * Results use the packed format described in {@link ParseResult}.
+ */
+public class SwarTimeDecoder {
+    public static final int HH_MM_LENGTH = 5;
+    public static final int HH_MM_SS_LENGTH = 8;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Byte lanes, least significant first: H H : M M [: S S]
+    private static final long HH_MM_MASK = 0x0000_00FF_FFFF_FFFFL;
+    private static final long HH_MM_PATTERN = 0x0000_0030_303A_3030L;
+    private static final long HH_MM_ADD_SIX = 0x0000_0006_0600_0606L;
+    private static final long HH_MM_CHECK = 0x0000_00F0_F0FF_F0F0L;
+
+    private static final long HH_MM_SS_PATTERN = 0x3030_3A30_303A_3030L;
+    private static final long HH_MM_SS_ADD_SIX = 0x0606_0006_0600_0606L;
+    private static final long HH_MM_SS_CHECK = 0xF0F0_FFF0_F0FF_F0F0L;
+
+    private static final int MAX_HOURS = 23;
+    private static final int MAX_MINUTES = 59;
+    private static final int MAX_SECONDS = 59;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final TimeParser fallback;
+
+    public SwarTimeDecoder() {
+        this(new TimeParser());
+    }
+
+    public SwarTimeDecoder(TimeParser fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Decodes one record.
+     *
+     * @param input bytes containing the record
+     * @param offset index of the first byte of the record
+     * @param length record length in bytes, without line terminator
+     * @return packed result, see {@link ParseResult}
+     */
+    public int decode(byte[] input, int offset, int length) {
+        if (length == HH_MM_LENGTH) {
+            int result = decodeHourMinute(load(input, offset, HH_MM_LENGTH) & HH_MM_MASK);
+            if (result >= 0) {
+                return result;
+            }
+        } else if (length == HH_MM_SS_LENGTH) {
+            int result = decodeHourMinuteSecond(load(input, offset, HH_MM_SS_LENGTH));
+            if (result >= 0) {
+                return result;
+            }
+        }
+        return fallback.parseMinuteOfDay(input, offset, length);
+    }
+
+    /**
+     * Decodes {@code count} records laid out at a fixed stride,
+     * e.g. "HH:MM\n" records use a stride of 6 and a record length of 5.
+     *
+     * @param input bytes containing the records
+     * @param offset index of the first record
+     * @param stride distance in bytes between the starts of consecutive records
+     * @param recordLength length of each record without terminator
+     * @param count number of records to decode
+     * @param output receives one packed result per record, starting at index 0
+     */
+    public void decodeAll(byte[] input, int offset, int stride, int recordLength, int count, int[] output) {
+        for (int i = 0; i < count; i++) {
+            output[i] = decode(input, offset + i * stride, recordLength);
+        }
+    }
+
+    /**
+     * Validates and decodes "HH:MM" packed in the low five lanes; returns -1 when not valid.
+     */
+    static int decodeHourMinute(long word) {
+        long lanes = word ^ HH_MM_PATTERN;
+        // Digit lanes must be 0-9 (no high nibble, even after adding 6); the colon lane must be 0
+        long invalid = (lanes | (lanes + HH_MM_ADD_SIX)) & HH_MM_CHECK;
+        // Combine each tens lane with its units lane: lane 0 = hours, lane 3 = minutes
+        long pairs = lanes * 10 + (lanes >>> 8);
+        int hours = (int) (pairs & 0xFF);
+        int minutes = (int) ((pairs >>> 24) & 0xFF);
+        boolean valid = invalid == 0 & hours <= MAX_HOURS & minutes <= MAX_MINUTES;
+        return valid ? hours * MINUTES_PER_HOUR + minutes : -1;
+    }
+
+    /**
+     * Validates and decodes "HH:MM:SS" packed in all eight lanes; returns -1 when not valid.
+     */
+    static int decodeHourMinuteSecond(long word) {
+        long lanes = word ^ HH_MM_SS_PATTERN;
+        long invalid = (lanes | (lanes + HH_MM_SS_ADD_SIX)) & HH_MM_SS_CHECK;
+        long pairs = lanes * 10 + (lanes >>> 8);
+        int hours = (int) (pairs & 0xFF);
+        int minutes = (int) ((pairs >>> 24) & 0xFF);
+        int seconds = (int) ((pairs >>> 48) & 0xFF);
+        boolean valid = invalid == 0 & hours <= MAX_HOURS & minutes <= MAX_MINUTES & seconds <= MAX_SECONDS;
+        return valid ? hours * MINUTES_PER_HOUR + minutes : -1;
+    }
+
+    /**
+     * Loads up to eight bytes little-endian; records at the very end of the array are assembled byte by byte.
+     */
+    private static long load(byte[] input, int offset, int length) {
+        if (offset + Long.BYTES <= input.length) {
+            return (long) LONG_LE.get(input, offset);
+        }
+
+        long word = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            word = (word << 8) | (input[offset + i] & 0xFF);
+        }
+        return word;
+    }
+}
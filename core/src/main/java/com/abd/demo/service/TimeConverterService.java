@@ -15,15 +15,45 @@ import com.abd.demo.domain.Time;
  * 2. GeneralTimeConverter - fallback for all other times
  *
  * This design allows easy addition of more converters in the future.
+ *
+ * Table-backed mode (see {@link #precomputed()}) builds all 1440 phrases once via {@link PhraseTable},
+ * so the default conversion becomes a single array lookup returning a shared String.
  */
 public class TimeConverterService {
 
     private final TimeToWordsConverter specialConverter;
     private final TimeToWordsConverter generalConverter;
+    private final PhraseTable phraseTable;
 
     public TimeConverterService() {
+        this(false);
+    }
+
+    private TimeConverterService(boolean precomputed) {
         this.specialConverter = new BritishTimeConverter();
         this.generalConverter = new GeneralTimeConverter();
+        this.phraseTable = precomputed ? PhraseTable.build(specialConverter, generalConverter) : null;
+    }
+
+    /**
+     * Creates a table-backed service.
+     * All phrases are built and verified against the rule path up front,
+     * so {@link #convert(Time)} only indexes the precomputed table.
+     *
+     * @return service backed by a verified phrase table
+     * @throws com.abd.demo.domain.exceptions.TimeConversionException if the table does not match the rule path
+     */
+    public static TimeConverterService precomputed() {
+        return new TimeConverterService(true);
+    }
+
+    /**
+     * Returns whether this service answers default conversions from a precomputed table.
+     *
+     * @return true when table-backed
+     */
+    public boolean isPrecomputed() {
+        return phraseTable != null;
     }
 
     /**
@@ -35,6 +65,12 @@ public class TimeConverterService {
      * @throws IllegalArgumentException if time is null
      */
     public String convert(Time time) {
+        if (phraseTable != null) {
+            if (time == null) {
+                throw new IllegalArgumentException("Time cannot be null");
+            }
+            return phraseTable.phrase(time);
+        }
         return convert(time, specialConverter);
     }
 
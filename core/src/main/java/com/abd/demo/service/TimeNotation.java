@@ -0,0 +1,72 @@
+package com.abd.demo.service;
+
+/**
+ * Declarative grammar of the time notations accepted by {@link TimeParser#parseNotation(CharSequence)}.
+ * All patterns are compiled together into one deterministic automaton (see NotationAutomaton),
+ * so adding a notation here adds states to the table but no work per character.
+ *
+ * Pattern syntax:
+ * - H, M, S  a digit of the hours, minutes or seconds field
+ * - P        meridiem letter, 'a' or 'p' (any case)
+ * - ' '      one whitespace character
+ * - 'x'      a quoted literal letter, matched case-insensitively
+ * - ?        makes the preceding element optional
+ * - other characters match themselves
+ *
+ * Leading and trailing whitespace is accepted for every notation, as in TimeParser.
+ * When two notations accept the same input, the one declared first wins.
+ */
+public enum TimeNotation {
+    COLON("H?H:MM"),
+    COMPACT("HHMM"),
+    DOT("H?H.MM"),
+    HOUR_LETTER("H?H'h'MM"),
+    WITH_SECONDS("H?H:MM:SS"),
+    ISO_8601("'T'HH:MM:SS'Z'"),
+    TWELVE_HOUR("H?H:MM ?P'm'");
+
+    private final String pattern;
+    private final boolean twelveHour;
+
+    TimeNotation(String pattern) {
+        this.pattern = pattern;
+        this.twelveHour = pattern.indexOf('P') >= 0;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the id stored in packed parse results; 0 is reserved for "no notation".
+     *
+     * @return notation id, starting at 1
+     */
+    public int getId() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * Returns whether hours are on the 12-hour clock, qualified by am/pm.
+     *
+     * @return true when the pattern has a meridiem element
+     */
+    public boolean isTwelveHour() {
+        return twelveHour;
+    }
+
+    /**
+     * Returns the notation a packed parse result was written in.
+     *
+     * @param result packed result from TimeParser
+     * @return the notation, or null for errors and plain TimeParser results
+     */
+    public static TimeNotation fromResult(int result) {
+        if (!ParseResult.isValid(result)) {
+            return null;
+        }
+        int id = ParseResult.notationId(result);
+        TimeNotation[] notations = values();
+        return id > 0 && id <= notations.length ? notations[id - 1] : null;
+    }
+}
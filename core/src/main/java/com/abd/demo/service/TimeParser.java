@@ -0,0 +1,384 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.InvalidTimeFormatException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Service for parsing time strings into Time value objects.
+ * Accepts formats:
+ * - "HH:MM" or "H:M" (e.g., "07:30", "7:30")
+ * - "H" or "HH" (e.g., "5", "12") - treated as hour on the hour (minutes = 00)
+ *
+ * Besides {@link #parse(String)}, an allocation-free API parses from a CharSequence,
+ * a char[]/byte[] slice or a ByteBuffer region and returns a packed primitive
+ * (see {@link ParseResult}) instead of throwing.
+ *
+ * {@link #parseNotation(CharSequence)} additionally recognises every {@link TimeNotation}
+ * ("0730", "7.30", "7h30", "07:30:15", "T07:30:00Z", "7:30pm", ...) in one pass
+ * and reports which one matched.
+ */
+public class TimeParser {
+
+    private static final String SEPARATOR = ":";
+    private static final NotationAutomaton NOTATIONS = NotationAutomaton.compile(TimeNotation.values());
+
+    // Scanner phases, one character at a time, left to right
+    private static final int LEADING = 0;
+    private static final int HOURS_SIGN = 1;
+    private static final int HOURS = 2;
+    private static final int AFTER_HOURS = 3;
+    private static final int MINUTES_START = 4;
+    private static final int MINUTES_SIGN = 5;
+    private static final int MINUTES = 6;
+    private static final int TRAILING = 7;
+
+    // Scanner state layout (non-negative long; a negative state is a packed error result)
+    private static final int MINUTES_SHIFT = 10;
+    private static final int PHASE_SHIFT = 20;
+    private static final int NEGATIVE_SHIFT = 24;
+    private static final int FIELD_START_SHIFT = 26;
+    private static final long VALUE_MASK = 0x3FF;
+    private static final long PHASE_MASK = 0xF;
+    private static final int MAX_VALUE = 999;
+
+    private static final int MAX_HOURS = 23;
+    private static final int MAX_MINUTES = 59;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    public Time parse(String input) {
+        int result = parseMinuteOfDay(input);
+        if (ParseResult.isValid(result)) {
+            return Time.ofMinuteOfDay(ParseResult.minuteOfDay(result));
+        }
+
+        // Cold path: produces the detailed exception for the caller
+        return parseStrictly(input);
+    }
+
+    /**
+     * Parses the whole character sequence without allocating or throwing.
+     *
+     * @param input characters to parse, may be null
+     * @return packed result, see {@link ParseResult}
+     */
+    public int parseMinuteOfDay(CharSequence input) {
+        if (input == null) {
+            return ParseResult.error(ParseResult.EMPTY, 0);
+        }
+        return parseMinuteOfDay(input, 0, input.length());
+    }
+
+    /**
+     * Parses characters [start, end) of the sequence without allocating or throwing.
+     *
+     * @param input characters to parse
+     * @param start first index, inclusive
+     * @param end last index, exclusive
+     * @return packed result, see {@link ParseResult}
+     */
+    public int parseMinuteOfDay(CharSequence input, int start, int end) {
+        long state = LEADING;
+        for (int i = start; i < end && state >= 0; i++) {
+            state = step(state, input.charAt(i), i - start);
+        }
+        return finish(state, end - start);
+    }
+
+    /**
+     * Parses a char[] slice without allocating or throwing.
+     *
+     * @param input characters to parse
+     * @param offset first index
+     * @param length number of characters
+     * @return packed result, see {@link ParseResult}
+     */
+    public int parseMinuteOfDay(char[] input, int offset, int length) {
+        long state = LEADING;
+        for (int i = 0; i < length && state >= 0; i++) {
+            state = step(state, input[offset + i], i);
+        }
+        return finish(state, length);
+    }
+
+    /**
+     * Parses a byte[] slice of ASCII/UTF-8 text without allocating or throwing.
+     *
+     * @param input bytes to parse
+     * @param offset first index
+     * @param length number of bytes
+     * @return packed result, see {@link ParseResult}
+     */
+    public int parseMinuteOfDay(byte[] input, int offset, int length) {
+        long state = LEADING;
+        for (int i = 0; i < length && state >= 0; i++) {
+            state = step(state, input[offset + i] & 0xFF, i);
+        }
+        return finish(state, length);
+    }
+
+    /**
+     * Parses a region of a ByteBuffer using absolute gets; the buffer position is not changed.
+     *
+     * @param input buffer to parse
+     * @param offset absolute index of the first byte
+     * @param length number of bytes
+     * @return packed result, see {@link ParseResult}
+     */
+    public int parseMinuteOfDay(ByteBuffer input, int offset, int length) {
+        long state = LEADING;
+        for (int i = 0; i < length && state >= 0; i++) {
+            state = step(state, input.get(offset + i) & 0xFF, i);
+        }
+        return finish(state, length);
+    }
+
+    /**
+     * Parses any supported {@link TimeNotation} without allocating or throwing.
+     *
+     * @param input characters to parse, may be null
+     * @return packed result with the notation id, see {@link ParseResult#notationId(int)}
+     */
+    public int parseNotation(CharSequence input) {
+        if (input == null) {
+            return ParseResult.error(ParseResult.EMPTY, 0);
+        }
+        return NOTATIONS.run(input, 0, input.length());
+    }
+
+    /**
+     * Parses any supported {@link TimeNotation} in characters [start, end) of the sequence.
+     *
+     * @param input characters to parse
+     * @param start first index, inclusive
+     * @param end last index, exclusive
+     * @return packed result with the notation id, see {@link ParseResult#notationId(int)}
+     */
+    public int parseNotation(CharSequence input, int start, int end) {
+        return NOTATIONS.run(input, start, end);
+    }
+
+    /**
+     * Parses any supported {@link TimeNotation} in a byte[] slice of ASCII/UTF-8 text.
+     *
+     * @param input bytes to parse
+     * @param offset first index
+     * @param length number of bytes
+     * @return packed result with the notation id, see {@link ParseResult#notationId(int)}
+     */
+    public int parseNotation(byte[] input, int offset, int length) {
+        return NOTATIONS.run(input, offset, length);
+    }
+
+    /**
+     * Advances the scanner by one character.
+     * Whitespace follows String.trim(): any character up to and including space.
+     */
+    private static long step(long state, int ch, int offset) {
+        int phase = (int) ((state >>> PHASE_SHIFT) & PHASE_MASK);
+        boolean digit = ch >= '0' && ch <= '9';
+        boolean blank = ch <= ' ';
+        boolean sign = ch == '+' || ch == '-';
+
+        switch (phase) {
+            case LEADING:
+                if (blank) {
+                    return state;
+                }
+                if (digit || sign) {
+                    return startField(digit ? HOURS : HOURS_SIGN, ch, offset);
+                }
+                return ParseResult.error(ch == ':' ? ParseResult.MISSING_FIELD : ParseResult.NOT_A_NUMBER, offset);
+            case HOURS_SIGN:
+            case MINUTES_SIGN:
+                return digit ? accumulate(withPhase(state, phase + 1), ch) : ParseResult.error(ParseResult.NOT_A_NUMBER, offset);
+            case HOURS:
+                if (digit) {
+                    return accumulate(state, ch);
+                }
+                if (ch == ':') {
+                    long hours = checkHours(state);
+                    return hours < 0 ? hours : carryHours(state);
+                }
+                return blank ? withPhase(state, AFTER_HOURS) : ParseResult.error(ParseResult.NOT_A_NUMBER, offset);
+            case AFTER_HOURS:
+            case TRAILING:
+                if (blank) {
+                    return state;
+                }
+                return ParseResult.error(ch == ':' && phase == TRAILING
+                    ? ParseResult.TOO_MANY_SEPARATORS : ParseResult.NOT_A_NUMBER, offset);
+            case MINUTES_START:
+                if (digit || sign) {
+                    return (state & VALUE_MASK) | startField(digit ? MINUTES : MINUTES_SIGN, ch, offset);
+                }
+                if (ch == ':') {
+                    return ParseResult.error(ParseResult.TOO_MANY_SEPARATORS, offset);
+                }
+                return ParseResult.error(blank ? ParseResult.MISSING_FIELD : ParseResult.NOT_A_NUMBER, offset);
+            default: // MINUTES
+                if (digit) {
+                    return accumulate(state, ch);
+                }
+                if (blank) {
+                    return withPhase(state, TRAILING);
+                }
+                return ParseResult.error(ch == ':' ? ParseResult.TOO_MANY_SEPARATORS : ParseResult.NOT_A_NUMBER, offset);
+        }
+    }
+
+    /**
+     * Converts the final scanner state into a packed result.
+     */
+    private static int finish(long state, int length) {
+        if (state < 0) {
+            return (int) state;
+        }
+
+        switch ((int) ((state >>> PHASE_SHIFT) & PHASE_MASK)) {
+            case LEADING:
+                return ParseResult.error(ParseResult.EMPTY, 0);
+            case HOURS_SIGN:
+            case MINUTES_SIGN:
+                return ParseResult.error(ParseResult.NOT_A_NUMBER, length);
+            case MINUTES_START:
+                return ParseResult.error(ParseResult.MISSING_FIELD, length);
+            case HOURS:
+            case AFTER_HOURS:
+                long hours = checkHours(state);
+                return hours < 0 ? (int) hours : (int) hours * MINUTES_PER_HOUR;
+            default: // MINUTES, TRAILING
+                int minutes = (int) ((state >>> MINUTES_SHIFT) & VALUE_MASK);
+                if (isNegative(state) && minutes != 0 || minutes > MAX_MINUTES) {
+                    return ParseResult.error(ParseResult.MINUTES_OUT_OF_RANGE, fieldStart(state));
+                }
+                return (int) (state & VALUE_MASK) * MINUTES_PER_HOUR + minutes;
+        }
+    }
+
+    /**
+     * Validates the hours field; returns the hours value or a negative error.
+     */
+    private static long checkHours(long state) {
+        int hours = (int) (state & VALUE_MASK);
+        if (isNegative(state) && hours != 0 || hours > MAX_HOURS) {
+            return ParseResult.error(ParseResult.HOURS_OUT_OF_RANGE, fieldStart(state));
+        }
+        return hours;
+    }
+
+    /**
+     * Keeps only the validated hours and moves to the minutes field.
+     */
+    private static long carryHours(long state) {
+        return (state & VALUE_MASK) | ((long) MINUTES_START << PHASE_SHIFT);
+    }
+
+    /**
+     * Starts a numeric field at the given offset. The current field value is kept in the
+     * hours slot until the separator is seen, then in the minutes slot.
+     */
+    private static long startField(int phase, int ch, int offset) {
+        boolean digit = ch >= '0' && ch <= '9';
+        long state = ((long) phase << PHASE_SHIFT)
+            | ((long) Math.min(offset, ParseResult.MAX_OFFSET) << FIELD_START_SHIFT)
+            | (ch == '-' ? 1L << NEGATIVE_SHIFT : 0L);
+        int shift = phase >= MINUTES_START ? MINUTES_SHIFT : 0;
+        return digit ? state | ((long) (ch - '0') << shift) : state;
+    }
+
+    private static long accumulate(long state, int ch) {
+        int shift = ((state >>> PHASE_SHIFT) & PHASE_MASK) >= MINUTES_START ? MINUTES_SHIFT : 0;
+        int value = (int) ((state >>> shift) & VALUE_MASK);
+        int next = Math.min(value * 10 + (ch - '0'), MAX_VALUE);
+        return (state & ~(VALUE_MASK << shift)) | ((long) next << shift);
+    }
+
+    private static long withPhase(long state, int phase) {
+        return (state & ~(PHASE_MASK << PHASE_SHIFT)) | ((long) phase << PHASE_SHIFT);
+    }
+
+    private static boolean isNegative(long state) {
+        return (state & (1L << NEGATIVE_SHIFT)) != 0;
+    }
+
+    private static int fieldStart(long state) {
+        return (int) ((state >>> FIELD_START_SHIFT) & ParseResult.MAX_OFFSET);
+    }
+
+    /**
+     * Exception-based parser used when the fast path rejects the input.
+     * Reports the precise failure and also accepts the non-ASCII digits Integer.parseInt understands.
+     */
+    private Time parseStrictly(String input) {
+        validateInput(input);
+
+        String trimmed = input.trim();
+
+        // Check if input contains colon separator
+        if (trimmed.contains(SEPARATOR)) {
+            return parseWithMinutes(trimmed);
+        } else {
+            return parseHourOnly(trimmed);
+        }
+    }
+
+    /**
+     * Parses time in "HH:MM" or "H:M" format.
+     */
+    private Time parseWithMinutes(String input) {
+        validateFormat(input);
+
+        String[] parts = input.split(SEPARATOR);
+        validateParts(parts);
+
+        try {
+            int hours = Integer.parseInt(parts[0]);
+            int minutes = Integer.parseInt(parts[1]);
+            return Time.of(hours, minutes);
+        } catch (NumberFormatException e) {
+            throw new InvalidTimeFormatException("Invalid time format. Hours and minutes must be numbers.", e);
+        }
+    }
+
+    /**
+     * Parses time in "H" or "HH" format (hour only).
+     * Minutes default to 00.
+     */
+    private Time parseHourOnly(String input) {
+        if (input.isEmpty()) {
+            throw new InvalidTimeFormatException("Time input cannot be empty");
+        }
+
+        try {
+            int hours = Integer.parseInt(input);
+            return Time.of(hours, 0);
+        } catch (NumberFormatException e) {
+            throw new InvalidTimeFormatException("Invalid time format. Hour must be a number.", e);
+        }
+    }
+
+    private void validateInput(String input) {
+        if (input == null || input.trim().isEmpty()) {
+            throw new InvalidTimeFormatException("Time input cannot be empty");
+        }
+    }
+
+    private void validateFormat(String input) {
+        long colonCount = input.chars().filter(ch -> ch == ':').count();
+        if (colonCount != 1) {
+            throw new InvalidTimeFormatException("Invalid time format. Expected exactly one colon separator");
+        }
+    }
+
+    private void validateParts(String[] parts) {
+        if (parts.length != 2) {
+            throw new InvalidTimeFormatException("Invalid time format. Expected format: HH:MM or H:M");
+        }
+
+        if (parts[0].isEmpty() || parts[1].isEmpty()) {
+            throw new InvalidTimeFormatException("Invalid time format. Both hours and minutes are required");
+        }
+    }
+}
@@ -2,13 +2,11 @@ package com.abd.demo.service.rule;
 
 import com.abd.demo.domain.Time;
 import com.abd.demo.util.NumberToWordsUtil;
-import lombok.extern.slf4j.Slf4j;
 
 /**
  * Rule for minutes past the hour (for minutes 1-29, excluding special cases).
  * Single Responsibility: Handle "X minutes past Y" time conversion.
  */
-@Slf4j
 public class MinutesPastRule implements TimeConversionRule {
     private static final int HALF_HOUR = 30;
     private static final String PAST = " past ";
@@ -16,17 +14,13 @@ public class MinutesPastRule implements TimeConversionRule {
 
     @Override
     public boolean canHandle(Time time) {
-        boolean canHandle = time.getMinutes() > 0 && time.getMinutes() < HALF_HOUR;
-        log.trace("MinutesPastRule.canHandle({}) = {}", time, canHandle);
-        return canHandle;
+        return time.getMinutes() > 0 && time.getMinutes() < HALF_HOUR;
     }
 
     @Override
     public String convert(Time time) {
         int hour12 = to12HourFormat(time.getHours());
-        String result = NumberToWordsUtil.convert(time.getMinutes()) + PAST + NumberToWordsUtil.convert(hour12);
-        log.debug("Converting {} to '{}'", time, result);
-        return result;
+        return NumberToWordsUtil.convert(time.getMinutes()) + PAST + NumberToWordsUtil.convert(hour12);
     }
 
     @Override
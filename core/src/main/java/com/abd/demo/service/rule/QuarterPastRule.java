@@ -2,13 +2,11 @@ package com.abd.demo.service.rule;
 
 import com.abd.demo.domain.Time;
 import com.abd.demo.util.NumberToWordsUtil;
-import lombok.extern.slf4j.Slf4j;
 
 /**
  * Rule for quarter past the hour (X:15).
  * Single Responsibility: Handle "quarter past" time conversion.
  */
-@Slf4j
 public class QuarterPastRule implements TimeConversionRule {
     private static final int QUARTER_PAST_MINUTE = 15;
     private static final String QUARTER_PAST = "quarter past ";
@@ -16,17 +14,13 @@ public class QuarterPastRule implements TimeConversionRule {
 
     @Override
     public boolean canHandle(Time time) {
-        boolean canHandle = time.getMinutes() == QUARTER_PAST_MINUTE;
-        log.trace("QuarterPastRule.canHandle({}) = {}", time, canHandle);
-        return canHandle;
+        return time.getMinutes() == QUARTER_PAST_MINUTE;
     }
 
     @Override
     public String convert(Time time) {
         int hour12 = to12HourFormat(time.getHours());
-        String result = QUARTER_PAST + NumberToWordsUtil.convert(hour12);
-        log.debug("Converting {} to '{}'", time, result);
-        return result;
+        return QUARTER_PAST + NumberToWordsUtil.convert(hour12);
     }
 
     @Override
@@ -0,0 +1,118 @@
+package com.abd.demo.service;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Batch parser built on the jdk.incubator.vector API.
+ * Compiled only with the 'vector' build profile; see {@link BatchTimeParser#create(TimeParser)}.
+ *
+ * Each step loads one vector of input and classifies every lane at once: newline, digit or colon.
+ * The lane masks give the boundaries of all records completed inside the window, and records with
+ * the canonical "H:MM" or "HH:MM" shape are decoded straight from the masks. Any other record
+ * (whitespace, signs, out-of-range values, records longer than a vector) goes through
+ * TimeParser, so the output matches {@link ScalarBatchTimeParser} exactly.
+ */
+public class VectorBatchTimeParser implements BatchTimeParser {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    // Lane patterns, least significant lane first
+    private static final long SHORT_DIGITS = 0b1101;
+    private static final long SHORT_COLON = 0b0010;
+    private static final long SHORT_MASK = 0b1111;
+    private static final long LONG_DIGITS = 0b11011;
+    private static final long LONG_COLON = 0b00100;
+    private static final long LONG_MASK = 0b11111;
+
+    private static final int MAX_HOURS = 23;
+    private static final int MAX_MINUTES = 59;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final TimeParser parser;
+
+    public VectorBatchTimeParser() {
+        this(new TimeParser());
+    }
+
+    public VectorBatchTimeParser(TimeParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public int parseLines(byte[] input, int offset, int length, int[] output) {
+        int count = 0;
+        int end = offset + length;
+        int recordStart = offset;
+
+        while (recordStart + LANES <= end) {
+            ByteVector window = ByteVector.fromArray(SPECIES, input, recordStart);
+            long newlines = window.eq((byte) '\n').toLong();
+
+            if (newlines == 0) {
+                // Record longer than a vector: finish it on the scalar path
+                int newline = indexOfNewline(input, recordStart + LANES, end);
+                output[count++] = parser.parseMinuteOfDay(input, recordStart, newline - recordStart);
+                recordStart = newline + 1;
+                continue;
+            }
+
+            long digits = window.compare(VectorOperators.GE, (byte) '0')
+                .and(window.compare(VectorOperators.LE, (byte) '9'))
+                .toLong();
+            long colons = window.eq((byte) ':').toLong();
+
+            int lane = 0;
+            while (newlines != 0) {
+                int newlineLane = Long.numberOfTrailingZeros(newlines);
+                output[count++] = decode(input, recordStart + lane, newlineLane - lane,
+                    digits >>> lane, colons >>> lane);
+                lane = newlineLane + 1;
+                newlines &= newlines - 1;
+            }
+            recordStart += lane;
+        }
+
+        // Tail shorter than one vector
+        for (int i = recordStart; i < end; i++) {
+            if (input[i] == '\n') {
+                output[count++] = parser.parseMinuteOfDay(input, recordStart, i - recordStart);
+                recordStart = i + 1;
+            }
+        }
+        if (recordStart < end) {
+            output[count++] = parser.parseMinuteOfDay(input, recordStart, end - recordStart);
+        }
+        return count;
+    }
+
+    /**
+     * Decodes a record from its digit/colon lane masks, or defers to TimeParser.
+     */
+    private int decode(byte[] input, int start, int length, long digits, long colons) {
+        int hours = -1;
+        int minutes = -1;
+        if (length == 4 && (digits & SHORT_MASK) == SHORT_DIGITS && (colons & SHORT_MASK) == SHORT_COLON) {
+            hours = input[start] - '0';
+            minutes = (input[start + 2] - '0') * 10 + (input[start + 3] - '0');
+        } else if (length == 5 && (digits & LONG_MASK) == LONG_DIGITS && (colons & LONG_MASK) == LONG_COLON) {
+            hours = (input[start] - '0') * 10 + (input[start + 1] - '0');
+            minutes = (input[start + 3] - '0') * 10 + (input[start + 4] - '0');
+        }
+
+        if (hours >= 0 && hours <= MAX_HOURS && minutes <= MAX_MINUTES) {
+            return hours * MINUTES_PER_HOUR + minutes;
+        }
+        return parser.parseMinuteOfDay(input, start, length);
+    }
+
+    private static int indexOfNewline(byte[] input, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (input[i] == '\n') {
+                return i;
+            }
+        }
+        return end;
+    }
+}
@@ -118,4 +118,35 @@ public class TimeTest {
         assertEquals(originalHours, time.getHours());
         assertEquals(originalMinutes, time.getMinutes());
     }
+
+    @Test
+    @DisplayName("Should return canonical instances from the factories")
+    public void testFactoriesReturnCanonicalInstances() {
+        Time time = Time.of(14, 30);
+        assertSame(time, Time.of(14, 30));
+        assertSame(time, Time.ofMinuteOfDay(870));
+        assertEquals(new Time(14, 30), time);
+        assertEquals(new Time(14, 30).hashCode(), time.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should expose minute of day and precomputed text for every time")
+    public void testMinuteOfDayAndText() {
+        for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            assertEquals(minuteOfDay, time.minuteOfDay());
+            assertEquals(minuteOfDay, time.getHours() * 60 + time.getMinutes());
+            assertEquals(String.format("%02d:%02d", time.getHours(), time.getMinutes()), time.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Factories should validate like the constructor")
+    public void testFactoriesValidate() {
+        InvalidTimeException e = assertThrows(InvalidTimeException.class, () -> Time.of(24, 0));
+        assertEquals("Hours must be between 0 and 23, got: 24", e.getMessage());
+        assertThrows(InvalidTimeException.class, () -> Time.of(12, 60));
+        assertThrows(InvalidTimeException.class, () -> Time.ofMinuteOfDay(-1));
+        assertThrows(InvalidTimeException.class, () -> Time.ofMinuteOfDay(1440));
+    }
 }
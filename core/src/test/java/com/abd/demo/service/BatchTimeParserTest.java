@@ -0,0 +1,68 @@
+package com.abd.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchTimeParser Tests")
+class BatchTimeParserTest {
+
+    private final TimeParser parser = new TimeParser();
+    private final ScalarBatchTimeParser scalar = new ScalarBatchTimeParser(parser);
+
+    @Test
+    @DisplayName("Should parse every newline-delimited record like TimeParser")
+    void testParseLinesMatchesParser() {
+        String text = "07:30\n7:30\r\n  9:5 \n\n24:00\nab\n14:30:00\n12";
+        byte[] input = text.getBytes(StandardCharsets.US_ASCII);
+        int[] output = new int[BatchTimeParser.countRecords(input, 0, input.length)];
+
+        int count = scalar.parseLines(input, 0, input.length, output);
+
+        String[] records = text.split("\n", -1);
+        assertEquals(records.length, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(parser.parseMinuteOfDay(records[i]), output[i], "Mismatch for record " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not produce an empty record after a trailing newline")
+    void testTrailingNewline() {
+        byte[] input = "12:00\n13:00\n".getBytes(StandardCharsets.US_ASCII);
+        int[] output = new int[4];
+
+        assertEquals(2, BatchTimeParser.countRecords(input, 0, input.length));
+        assertEquals(2, scalar.parseLines(input, 0, input.length, output));
+        assertEquals(720, output[0]);
+        assertEquals(780, output[1]);
+    }
+
+    @Test
+    @DisplayName("Should parse only the requested region")
+    void testRegion() {
+        byte[] input = "xx01:00\n02:00yy".getBytes(StandardCharsets.US_ASCII);
+        int[] output = new int[2];
+
+        assertEquals(2, scalar.parseLines(input, 2, 11, output));
+        assertEquals(60, output[0]);
+        assertEquals(120, output[1]);
+        assertEquals(0, scalar.parseLines(input, 0, 0, output));
+        assertEquals(0, BatchTimeParser.countRecords(input, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Factory should return a working parser on any JDK")
+    void testCreate() {
+        BatchTimeParser batchParser = BatchTimeParser.create(parser);
+        byte[] input = "23:59\n".getBytes(StandardCharsets.US_ASCII);
+        int[] output = new int[1];
+
+        assertNotNull(batchParser);
+        assertEquals(1, batchParser.parseLines(input, 0, input.length, output));
+        assertEquals(1439, output[0]);
+    }
+}
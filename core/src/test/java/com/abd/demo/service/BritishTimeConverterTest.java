@@ -1,10 +1,15 @@
 package com.abd.demo.service;
 
 import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.TimeConversionException;
+import com.abd.demo.service.rule.TimeConversionRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("BritishTimeConverterFunctional Tests - Functional Programming Version")
@@ -155,4 +160,61 @@ class BritishTimeConverterTest {
             assertFalse(result.isEmpty());
         }
     }
+
+    // Custom rules and dispatch
+    @Test
+    @DisplayName("Should evaluate custom rules in priority order")
+    void testCustomRulesByPriority() {
+        TimeConversionRule fallback = new FixedRule("fallback", 200, time -> true);
+        TimeConversionRule lunch = new FixedRule("lunch", 1, time -> time.getHours() == 12);
+        BritishTimeConverter custom = new BritishTimeConverter(List.of(fallback, lunch));
+
+        assertEquals(List.of(lunch, fallback), custom.getRules());
+        assertEquals("lunch", custom.convert(Time.of(12, 30)));
+        assertEquals("fallback", custom.convert(Time.of(13, 30)));
+    }
+
+    @Test
+    @DisplayName("Should throw when no custom rule handles the time")
+    void testNoRuleMatched() {
+        BritishTimeConverter custom = new BritishTimeConverter(
+            List.of(new FixedRule("noon", 1, time -> time.minuteOfDay() == 720)));
+        TimeConversionException e = assertThrows(TimeConversionException.class, () -> custom.convert(Time.of(9, 0)));
+        assertEquals("No rule matched for time: 09:00", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Default rules should leave no dead rules and no unhandled minutes")
+    void testDefaultCoverage() {
+        RuleCoverage coverage = converter.coverage();
+        assertTrue(coverage.getDeadRules().isEmpty());
+        assertTrue(coverage.getUnhandledTimes().isEmpty());
+    }
+
+    private static final class FixedRule implements TimeConversionRule {
+        private final String phrase;
+        private final int priority;
+        private final Predicate<Time> accepts;
+
+        FixedRule(String phrase, int priority, Predicate<Time> accepts) {
+            this.phrase = phrase;
+            this.priority = priority;
+            this.accepts = accepts;
+        }
+
+        @Override
+        public boolean canHandle(Time time) {
+            return accepts.test(time);
+        }
+
+        @Override
+        public String convert(Time time) {
+            return phrase;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
 }
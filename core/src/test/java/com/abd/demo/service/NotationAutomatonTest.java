@@ -0,0 +1,58 @@
+package com.abd.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NotationAutomaton Tests")
+class NotationAutomatonTest {
+
+    @Test
+    @DisplayName("Should compile the full notation grammar into a small table")
+    void testCompileAllNotations() {
+        NotationAutomaton automaton = NotationAutomaton.compile(TimeNotation.values());
+        assertTrue(automaton.stateCount() < 64, "states: " + automaton.stateCount());
+    }
+
+    @Test
+    @DisplayName("Should report pattern index + 1 as the notation id")
+    void testNotationIdFollowsPatternOrder() {
+        NotationAutomaton automaton = NotationAutomaton.compile("HHMM", "H?H.MM");
+        int compact = automaton.run("0730", 0, 4);
+        int dot = automaton.run("7.30", 0, 4);
+        assertEquals(1, ParseResult.notationId(compact));
+        assertEquals(2, ParseResult.notationId(dot));
+        assertEquals(450, ParseResult.minuteOfDay(dot));
+    }
+
+    @Test
+    @DisplayName("Should let the earlier pattern win when both accept the input")
+    void testEarlierPatternWins() {
+        NotationAutomaton automaton = NotationAutomaton.compile("HH:MM", "H?H:MM");
+        assertEquals(1, ParseResult.notationId(automaton.run("07:30", 0, 5)));
+        assertEquals(2, ParseResult.notationId(automaton.run("7:30", 0, 4)));
+    }
+
+    @Test
+    @DisplayName("Should match quoted letters case-insensitively")
+    void testLiteralCaseFolding() {
+        NotationAutomaton automaton = NotationAutomaton.compile("H?H'h'MM");
+        assertTrue(ParseResult.isValid(automaton.run("7h30", 0, 4)));
+        assertTrue(ParseResult.isValid(automaton.run("7H30", 0, 4)));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed patterns")
+    void testMalformedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> NotationAutomaton.compile("?HH:MM"));
+        assertThrows(IllegalArgumentException.class, () -> NotationAutomaton.compile("HH'h"));
+        assertThrows(IllegalArgumentException.class, () -> NotationAutomaton.compile("HHxMM"));
+    }
+
+    @Test
+    @DisplayName("Should reject grammars where one character would update two fields")
+    void testAmbiguousGrammar() {
+        assertThrows(IllegalArgumentException.class, () -> NotationAutomaton.compile("H?H:MM", "M?M:HH"));
+    }
+}
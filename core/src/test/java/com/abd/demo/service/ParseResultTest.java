@@ -0,0 +1,75 @@
+package com.abd.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseResult Tests")
+class ParseResultTest {
+
+    @Test
+    @DisplayName("Should decode minute of day into hours and minutes")
+    void testDecodeValidResult() {
+        int result = 14 * 60 + 30;
+        assertTrue(ParseResult.isValid(result));
+        assertEquals(870, ParseResult.minuteOfDay(result));
+        assertEquals(14, ParseResult.hours(result));
+        assertEquals(30, ParseResult.minutes(result));
+    }
+
+    @Test
+    @DisplayName("Should keep the notation id apart from the minute of day")
+    void testNotationId() {
+        int result = ParseResult.withNotation(1439, TimeNotation.TWELVE_HOUR.getId());
+        assertTrue(ParseResult.isValid(result));
+        assertEquals(1439, ParseResult.minuteOfDay(result));
+        assertEquals(23, ParseResult.hours(result));
+        assertEquals(59, ParseResult.minutes(result));
+        assertEquals(TimeNotation.TWELVE_HOUR.getId(), ParseResult.notationId(result));
+        assertEquals(0, ParseResult.notationId(870));
+    }
+
+    @Test
+    @DisplayName("Should pack and unpack error code and offset")
+    void testPackError() {
+        int result = ParseResult.error(ParseResult.MINUTES_OUT_OF_RANGE, 42);
+        assertFalse(ParseResult.isValid(result));
+        assertEquals(ParseResult.MINUTES_OUT_OF_RANGE, ParseResult.errorCode(result));
+        assertEquals(42, ParseResult.errorOffset(result));
+    }
+
+    @Test
+    @DisplayName("Should saturate large offsets")
+    void testOffsetSaturates() {
+        int result = ParseResult.error(ParseResult.NOT_A_NUMBER, Integer.MAX_VALUE);
+        assertEquals(ParseResult.NOT_A_NUMBER, ParseResult.errorCode(result));
+        assertEquals(ParseResult.MAX_OFFSET, ParseResult.errorOffset(result));
+    }
+
+    @Test
+    @DisplayName("Should describe every error code")
+    void testDescribe() {
+        assertEquals("Time input cannot be empty", ParseResult.describe(ParseResult.EMPTY));
+        assertEquals("Hours must be between 0 and 23", ParseResult.describe(ParseResult.HOURS_OUT_OF_RANGE));
+        assertEquals("Minutes must be between 0 and 59", ParseResult.describe(ParseResult.MINUTES_OUT_OF_RANGE));
+        assertTrue(ParseResult.describe(ParseResult.NOT_A_NUMBER).startsWith("Invalid time format"));
+        assertTrue(ParseResult.describe(ParseResult.TOO_MANY_SEPARATORS).startsWith("Invalid time format"));
+        assertTrue(ParseResult.describe(ParseResult.MISSING_FIELD).startsWith("Invalid time format"));
+        assertEquals("Seconds must be between 0 and 59", ParseResult.describe(ParseResult.SECONDS_OUT_OF_RANGE));
+        assertEquals("Unrecognised time notation", ParseResult.describe(ParseResult.UNKNOWN_NOTATION));
+        assertTrue(ParseResult.describe(99).contains("99"));
+    }
+
+    @Test
+    @DisplayName("Should not be instantiable")
+    void testPrivateConstructor() throws NoSuchMethodException {
+        Constructor<ParseResult> constructor = ParseResult.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        InvocationTargetException e = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+}
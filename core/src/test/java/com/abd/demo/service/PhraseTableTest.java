@@ -0,0 +1,93 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.TimeConversionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PhraseTable Tests")
+class PhraseTableTest {
+
+    private BritishTimeConverter britishConverter;
+    private GeneralTimeConverter generalConverter;
+    private PhraseTable table;
+
+    @BeforeEach
+    void setUp() {
+        britishConverter = new BritishTimeConverter();
+        generalConverter = new GeneralTimeConverter();
+        table = PhraseTable.build(britishConverter, generalConverter);
+    }
+
+    @Test
+    @DisplayName("Should match the converter path for every minute of the day")
+    void testMatchesConverterPathForAllMinutes() {
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                Time time = new Time(hour, minute);
+                String expected = britishConverter.canHandle(time)
+                    ? britishConverter.convert(time)
+                    : generalConverter.convert(time);
+                assertEquals(expected, table.phrase(time), "Mismatch for " + time);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should look up by minute of day")
+    void testPhraseByMinuteOfDay() {
+        assertEquals("midnight", table.phrase(0));
+        assertEquals("half past seven", table.phrase(7 * 60 + 30));
+        assertEquals("noon", table.phrase(12 * 60));
+        assertEquals("six thirty two", table.phrase(6 * 60 + 32));
+        assertEquals("twenty three fifty nine", table.phrase(PhraseTable.MINUTES_PER_DAY - 1));
+    }
+
+    @Test
+    @DisplayName("Should return shared interned instances")
+    void testPhrasesAreInterned() {
+        String first = table.phrase(new Time(9, 45));
+        String second = table.phrase(new Time(9, 45));
+        assertSame(first, second);
+        assertSame("quarter to ten", first);
+    }
+
+    @Test
+    @DisplayName("Should build from a custom special converter")
+    void testBuildWithCustomConverter() {
+        TimeToWordsConverter custom = time -> "custom";
+        PhraseTable customTable = PhraseTable.build(custom, generalConverter);
+        assertEquals("custom", customTable.phrase(new Time(3, 17)));
+    }
+
+    @Test
+    @DisplayName("Should fail when a converter is not deterministic")
+    void testVerificationFailsOnMismatch() {
+        TimeToWordsConverter unstable = new TimeToWordsConverter() {
+            private int calls;
+
+            @Override
+            public String convert(Time time) {
+                return "call " + calls++;
+            }
+        };
+        assertThrows(TimeConversionException.class, () -> PhraseTable.build(unstable, generalConverter));
+    }
+
+    @Test
+    @DisplayName("Should fail when the converter disagrees with its own rule chain")
+    void testVerificationWalksRules() {
+        BritishTimeConverter drifted = new BritishTimeConverter() {
+            @Override
+            public String convert(Time time) {
+                return time.minuteOfDay() == 7 * 60 + 30 ? "seven thirty" : super.convert(time);
+            }
+        };
+        TimeConversionException e = assertThrows(TimeConversionException.class,
+            () -> PhraseTable.build(drifted, generalConverter));
+        assertTrue(e.getMessage().contains("'seven thirty' != 'half past seven'"), e.getMessage());
+    }
+}
@@ -0,0 +1,115 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.TimeConversionException;
+import com.abd.demo.service.rule.OClockRule;
+import com.abd.demo.service.rule.TimeConversionRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RuleConverterGenerator Tests")
+class RuleConverterGeneratorTest {
+
+    @Test
+    @DisplayName("Generated converter should match the rule dispatch for every minute")
+    void testMatchesBritishConverter() {
+        BritishTimeConverter british = new BritishTimeConverter();
+        TimeToWordsConverter generated = RuleConverterGenerator.generate(british);
+
+        assertInstanceOf(CompiledRuleConverter.class, generated);
+        assertTrue(generated.getClass().isHidden());
+        for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            assertEquals(british.convert(time), generated.convert(time), time.toString());
+            assertEquals(british.canHandle(time), generated.canHandle(time));
+        }
+    }
+
+    @Test
+    @DisplayName("Should compile custom rules and keep the no-rule error")
+    void testCustomRules() {
+        TimeConversionRule lunch = rule(1, time -> time.getHours() == 12, "lunch time");
+        TimeToWordsConverter generated = RuleConverterGenerator.generate(List.of(new OClockRule(), lunch));
+
+        assertInstanceOf(CompiledRuleConverter.class, generated);
+        assertEquals("lunch time", generated.convert(Time.of(12, 0)));
+        assertEquals("lunch time", generated.convert(Time.of(12, 59)));
+        assertEquals("three o'clock", generated.convert(Time.of(15, 0)));
+        TimeConversionException e = assertThrows(TimeConversionException.class,
+            () -> generated.convert(Time.of(15, 7)));
+        assertEquals("No rule matched for time: 15:07", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the rule chain when a rule fails during generation")
+    void testFallbackWhenRuleThrows() {
+        TimeConversionRule failing = rule(1, time -> true, null);
+        BritishTimeConverter converter = new BritishTimeConverter(List.of(failing));
+
+        assertSame(converter, RuleConverterGenerator.generate(converter));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the rule chain when a phrase does not fit the class file")
+    void testFallbackWhenPhraseTooLong() {
+        String oversized = "x".repeat(70_000); // a constant pool UTF-8 entry holds at most 65535 bytes
+        BritishTimeConverter converter = new BritishTimeConverter(List.of(rule(1, time -> true, oversized)));
+
+        TimeToWordsConverter generated = RuleConverterGenerator.generate(converter);
+
+        assertSame(converter, generated);
+        assertEquals(oversized, generated.convert(Time.of(8, 8)));
+    }
+
+    @Test
+    @DisplayName("Generated classes for different rule sets should be independent")
+    void testIndependentClasses() {
+        TimeToWordsConverter first = RuleConverterGenerator.generate(List.of(rule(1, time -> true, "first")));
+        TimeToWordsConverter second = RuleConverterGenerator.generate(List.of(rule(1, time -> true, "second")));
+
+        assertNotSame(first.getClass(), second.getClass());
+        assertEquals("first", first.convert(Time.of(8, 8)));
+        assertEquals("second", second.convert(Time.of(8, 8)));
+    }
+
+    @Test
+    @DisplayName("Should not be instantiable")
+    void testPrivateConstructor() throws NoSuchMethodException {
+        Constructor<RuleConverterGenerator> constructor = RuleConverterGenerator.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        InvocationTargetException e = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    /**
+     * Rule returning a fixed phrase; a null phrase makes convert throw.
+     */
+    private static TimeConversionRule rule(int priority, Predicate<Time> accepts, String phrase) {
+        return new TimeConversionRule() {
+            @Override
+            public boolean canHandle(Time time) {
+                return accepts.test(time);
+            }
+
+            @Override
+            public String convert(Time time) {
+                if (phrase == null) {
+                    throw new IllegalStateException("rule failure");
+                }
+                return phrase;
+            }
+
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.service.rule.HalfPastRule;
+import com.abd.demo.service.rule.MidnightRule;
+import com.abd.demo.service.rule.MinutesPastRule;
+import com.abd.demo.service.rule.OClockRule;
+import com.abd.demo.service.rule.TimeConversionRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RuleCoverage Tests")
+class RuleCoverageTest {
+
+    @Test
+    @DisplayName("Should report the minutes owned by each default rule")
+    void testOwnedTimes() {
+        BritishTimeConverter converter = new BritishTimeConverter();
+        RuleCoverage coverage = converter.coverage();
+
+        TimeConversionRule midnight = ruleOfType(converter, MidnightRule.class);
+        TimeConversionRule oClock = ruleOfType(converter, OClockRule.class);
+        assertEquals(List.of(Time.of(0, 0)), coverage.ownedTimes(midnight));
+        // Every full hour except midnight and noon
+        assertEquals(22, coverage.ownedTimes(oClock).size());
+        assertFalse(coverage.ownedTimes(oClock).contains(Time.of(12, 0)));
+
+        int total = 0;
+        for (TimeConversionRule rule : converter.getRules()) {
+            total += coverage.ownedTimes(rule).size();
+        }
+        assertEquals(1440, total);
+    }
+
+    @Test
+    @DisplayName("Should detect rules shadowed by higher-priority rules")
+    void testDeadRules() {
+        TimeConversionRule halfPast = new HalfPastRule();
+        TimeConversionRule shadowed = new TimeConversionRule() {
+            @Override
+            public boolean canHandle(Time time) {
+                return time.getMinutes() == 10;
+            }
+
+            @Override
+            public String convert(Time time) {
+                return "ten past";
+            }
+        };
+        BritishTimeConverter converter = new BritishTimeConverter(
+            List.of(shadowed, new MinutesPastRule(), halfPast, new OClockRule()));
+        RuleCoverage coverage = converter.coverage();
+
+        assertEquals(List.of(shadowed), coverage.getDeadRules());
+        assertEquals(24, coverage.ownedTimes(halfPast).size());
+        assertTrue(coverage.getUnhandledTimes().contains(Time.of(10, 45)));
+        assertFalse(coverage.getUnhandledTimes().contains(Time.of(10, 10)));
+        assertTrue(coverage.describe().contains("HalfPastRule (priority 11): 24 minutes [00:30, 01:30, 02:30, 03:30, ...]"));
+        assertTrue(coverage.describe().contains("(priority 100): dead"));
+        assertTrue(coverage.describe().contains("unhandled: "));
+    }
+
+    private static TimeConversionRule ruleOfType(BritishTimeConverter converter, Class<?> type) {
+        return converter.getRules().stream().filter(type::isInstance).findFirst().orElseThrow();
+    }
+}
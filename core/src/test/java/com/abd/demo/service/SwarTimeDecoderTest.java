@@ -0,0 +1,98 @@
+package com.abd.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SwarTimeDecoder Tests")
+class SwarTimeDecoderTest {
+
+    private final TimeParser parser = new TimeParser();
+    private final SwarTimeDecoder decoder = new SwarTimeDecoder(parser);
+
+    @Test
+    @DisplayName("Should decode every HH:MM value of the day")
+    void testDecodesAllMinutes() {
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                byte[] record = String.format("%02d:%02d", hour, minute).getBytes(StandardCharsets.US_ASCII);
+                assertEquals(hour * 60 + minute, decoder.decode(record, 0, record.length));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode HH:MM:SS and drop seconds")
+    void testDecodesSeconds() {
+        byte[] record = bytes("07:30:59");
+        assertEquals(7 * 60 + 30, decoder.decode(record, 0, record.length));
+        assertEquals(7 * 60 + 30, SwarTimeDecoder.decodeHourMinuteSecond(word(record)));
+    }
+
+    @Test
+    @DisplayName("Should reject out-of-range fields in the fast path")
+    void testFastPathRejectsRanges() {
+        assertEquals(-1, SwarTimeDecoder.decodeHourMinute(word(bytes("24:00"))));
+        assertEquals(-1, SwarTimeDecoder.decodeHourMinute(word(bytes("23:60"))));
+        assertEquals(-1, SwarTimeDecoder.decodeHourMinute(word(bytes("2a:00"))));
+        assertEquals(-1, SwarTimeDecoder.decodeHourMinute(word(bytes("12.00"))));
+        assertEquals(-1, SwarTimeDecoder.decodeHourMinuteSecond(word(bytes("12:00:60"))));
+        assertEquals(-1, SwarTimeDecoder.decodeHourMinuteSecond(word(bytes("12:00-00"))));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the general parser for other records")
+    void testFallsBackToParser() {
+        String[] inputs = {"7:30", " 7:30", "+7:30", "24:00", "12:60", "ab:cd", "   07:30", "1:2:3:4", "", "12:30:99"};
+        for (String input : inputs) {
+            byte[] record = bytes(input);
+            assertEquals(parser.parseMinuteOfDay(record, 0, record.length), decoder.decode(record, 0, record.length),
+                "Mismatch for '" + input + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with the general parser on random five-byte records")
+    void testAgreesWithParserOnRandomRecords() {
+        byte[] alphabet = bytes("0123456789: +-/;x");
+        Random random = new Random(42);
+        byte[] record = new byte[5];
+        for (int i = 0; i < 50_000; i++) {
+            for (int j = 0; j < record.length; j++) {
+                record[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            assertEquals(parser.parseMinuteOfDay(record, 0, 5), decoder.decode(record, 0, 5),
+                "Mismatch for '" + new String(record, StandardCharsets.US_ASCII) + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode fixed-stride records including one at the end of the array")
+    void testDecodeAll() {
+        byte[] input = bytes("00:00\n12:00\n23:59\n99:99\n07:05");
+        int[] output = new int[5];
+        decoder.decodeAll(input, 0, 6, 5, 5, output);
+
+        assertEquals(0, output[0]);
+        assertEquals(720, output[1]);
+        assertEquals(1439, output[2]);
+        assertEquals(ParseResult.HOURS_OUT_OF_RANGE, ParseResult.errorCode(output[3]));
+        assertEquals(425, output[4]);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static long word(byte[] record) {
+        long word = 0;
+        for (int i = record.length - 1; i >= 0; i--) {
+            word = (word << 8) | (record[i] & 0xFF);
+        }
+        return word;
+    }
+}
@@ -69,4 +69,33 @@ public class TimeConverterServiceTest {
             service.convert(null);
         });
     }
+
+    // Test table-backed mode
+    @Test
+    @DisplayName("Precomputed service should match the rule path for every minute")
+    public void testPrecomputedMatchesDefaultForAllMinutes() {
+        TimeConverterService precomputed = TimeConverterService.precomputed();
+        assertTrue(precomputed.isPrecomputed());
+        assertFalse(service.isPrecomputed());
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                Time time = new Time(hour, minute);
+                assertEquals(service.convert(time), precomputed.convert(time), "Mismatch for " + time);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Precomputed service should return the same instance for repeated conversions")
+    public void testPrecomputedReturnsSharedInstance() {
+        TimeConverterService precomputed = TimeConverterService.precomputed();
+        assertSame(precomputed.convert(new Time(4, 15)), precomputed.convert(new Time(4, 15)));
+    }
+
+    @Test
+    @DisplayName("Precomputed service should throw exception for null time")
+    public void testPrecomputedNullTime() {
+        TimeConverterService precomputed = TimeConverterService.precomputed();
+        assertThrows(IllegalArgumentException.class, () -> precomputed.convert(null));
+    }
 }
@@ -0,0 +1,395 @@
+package com.abd.demo.service;
+
+import com.abd.demo.domain.Time;
+import com.abd.demo.domain.exceptions.InvalidTimeException;
+import com.abd.demo.domain.exceptions.InvalidTimeFormatException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeParser Service Tests")
+public class TimeParserTest {
+
+    private final TimeParser parser = new TimeParser();
+
+    @Test
+    @DisplayName("Should parse valid time in HH:MM format")
+    public void testParseValidTimeHHMM() {
+        Time time = parser.parse("14:30");
+        assertEquals(14, time.getHours());
+        assertEquals(30, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse time with single digit hour")
+    public void testParseValidTimeSingleDigitHour() {
+        Time time = parser.parse("9:30");
+        assertEquals(9, time.getHours());
+        assertEquals(30, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse time with single digit minute")
+    public void testParseValidTimeSingleDigitMinute() {
+        Time time = parser.parse("14:05");
+        assertEquals(14, time.getHours());
+        assertEquals(5, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse time with single digit hour and minute")
+    public void testParseValidTimeSingleDigitBoth() {
+        Time time = parser.parse("9:5");
+        assertEquals(9, time.getHours());
+        assertEquals(5, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse midnight (0:00)")
+    public void testParseMidnight() {
+        Time time = parser.parse("0:00");
+        assertEquals(0, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse end of day (23:59)")
+    public void testParseEndOfDay() {
+        Time time = parser.parse("23:59");
+        assertEquals(23, time.getHours());
+        assertEquals(59, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse time with leading zeros")
+    public void testParseWithLeadingZeros() {
+        Time time = parser.parse("09:05");
+        assertEquals(9, time.getHours());
+        assertEquals(5, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse time with surrounding whitespace")
+    public void testParseWithWhitespace() {
+        Time time = parser.parse("  14:30  ");
+        assertEquals(14, time.getHours());
+        assertEquals(30, time.getMinutes());
+    }
+
+    // Tests for hour-only format (H or HH)
+    @Test
+    @DisplayName("Should parse single digit hour (5 -> 5:00)")
+    public void testParseHourOnlySingleDigit() {
+        Time time = parser.parse("5");
+        assertEquals(5, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse double digit hour (12 -> 12:00)")
+    public void testParseHourOnlyDoubleDigit() {
+        Time time = parser.parse("12");
+        assertEquals(12, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse midnight hour only (0 -> 0:00)")
+    public void testParseHourOnlyMidnight() {
+        Time time = parser.parse("0");
+        assertEquals(0, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse end of day hour only (23 -> 23:00)")
+    public void testParseHourOnlyEndOfDay() {
+        Time time = parser.parse("23");
+        assertEquals(23, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse hour only with leading zero (09 -> 9:00)")
+    public void testParseHourOnlyWithLeadingZero() {
+        Time time = parser.parse("09");
+        assertEquals(9, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should parse hour only with whitespace (  5  -> 5:00)")
+    public void testParseHourOnlyWithWhitespace() {
+        Time time = parser.parse("  5  ");
+        assertEquals(5, time.getHours());
+        assertEquals(0, time.getMinutes());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for multiple colons")
+    public void testParseInvalidFormatMultipleColons() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse("14:30:00");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for non-numeric input")
+    public void testParseInvalidFormatLetters() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse("ab:cd");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for empty input")
+    public void testParseInvalidFormatEmpty() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse("");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for null input")
+    public void testParseInvalidFormatNull() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for hour >= 24")
+    public void testParseInvalidHourTooLarge() {
+        assertThrows(InvalidTimeException.class, () -> {
+            parser.parse("24:30");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for minute >= 60")
+    public void testParseInvalidMinuteTooLarge() {
+        assertThrows(InvalidTimeException.class, () -> {
+            parser.parse("14:60");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for negative hour")
+    public void testParseInvalidNegativeHour() {
+        assertThrows(InvalidTimeException.class, () -> {
+            parser.parse("-1:30");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for negative minute")
+    public void testParseInvalidNegativeMinute() {
+        assertThrows(InvalidTimeException.class, () -> {
+            parser.parse("14:-5");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for only colon")
+    public void testParseInvalidFormatOnlyColon() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse(":");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception when missing minute")
+    public void testParseInvalidFormatMissingMinute() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse("14:");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception when missing hour")
+    public void testParseInvalidFormatMissingHour() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse(":30");
+        });
+    }
+
+    // Validation tests for hour-only format
+    @Test
+    @DisplayName("Should throw exception for hour-only >= 24")
+    public void testParseHourOnlyInvalidTooLarge() {
+        assertThrows(InvalidTimeException.class, () -> {
+            parser.parse("24");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for hour-only negative")
+    public void testParseHourOnlyInvalidNegative() {
+        assertThrows(InvalidTimeException.class, () -> {
+            parser.parse("-5");
+        });
+    }
+
+    @Test
+    @DisplayName("Should throw exception for hour-only non-numeric")
+    public void testParseHourOnlyInvalidLetters() {
+        assertThrows(InvalidTimeFormatException.class, () -> {
+            parser.parse("abc");
+        });
+    }
+
+    // Tests for the allocation-free primitive API
+    @Test
+    @DisplayName("Should return minute of day for valid input")
+    public void testParseMinuteOfDayValid() {
+        assertEquals(14 * 60 + 30, parser.parseMinuteOfDay("14:30"));
+        assertEquals(9 * 60 + 5, parser.parseMinuteOfDay("  9:5  "));
+        assertEquals(5 * 60, parser.parseMinuteOfDay("5"));
+        assertEquals(0, parser.parseMinuteOfDay("-0:+0"));
+        assertEquals(23 * 60 + 59, parser.parseMinuteOfDay("23:59\r"));
+    }
+
+    @Test
+    @DisplayName("Should return error codes with offsets for invalid input")
+    public void testParseMinuteOfDayErrors() {
+        assertError(ParseResult.EMPTY, 0, parser.parseMinuteOfDay("   "));
+        assertError(ParseResult.EMPTY, 0, parser.parseMinuteOfDay(null));
+        assertError(ParseResult.NOT_A_NUMBER, 0, parser.parseMinuteOfDay("ab:cd"));
+        assertError(ParseResult.NOT_A_NUMBER, 3, parser.parseMinuteOfDay("12:x0"));
+        assertError(ParseResult.TOO_MANY_SEPARATORS, 5, parser.parseMinuteOfDay("14:30:00"));
+        assertError(ParseResult.MISSING_FIELD, 3, parser.parseMinuteOfDay("14:"));
+        assertError(ParseResult.MISSING_FIELD, 0, parser.parseMinuteOfDay(":30"));
+        assertError(ParseResult.HOURS_OUT_OF_RANGE, 1, parser.parseMinuteOfDay(" 24:30"));
+        assertError(ParseResult.HOURS_OUT_OF_RANGE, 0, parser.parseMinuteOfDay("-5"));
+        assertError(ParseResult.MINUTES_OUT_OF_RANGE, 3, parser.parseMinuteOfDay("14:60"));
+        assertError(ParseResult.MINUTES_OUT_OF_RANGE, 3, parser.parseMinuteOfDay("14:-5"));
+        assertError(ParseResult.HOURS_OUT_OF_RANGE, 0, parser.parseMinuteOfDay("99999999999:00"));
+    }
+
+    @Test
+    @DisplayName("Should parse slices of char arrays, byte arrays and byte buffers")
+    public void testParseMinuteOfDaySlices() {
+        String line = "xx07:45yy";
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(1);
+
+        int expected = 7 * 60 + 45;
+        assertEquals(expected, parser.parseMinuteOfDay(line, 2, 7));
+        assertEquals(expected, parser.parseMinuteOfDay(line.toCharArray(), 2, 5));
+        assertEquals(expected, parser.parseMinuteOfDay(bytes, 2, 5));
+        assertEquals(expected, parser.parseMinuteOfDay(buffer, 2, 5));
+        assertEquals(1, buffer.position(), "Buffer position should not change");
+    }
+
+    @Test
+    @DisplayName("Primitive API should agree with parse(String) for ASCII input")
+    public void testParseMinuteOfDayAgreesWithParse() {
+        String[] inputs = {"14:30", "9:5", "0", "23", "+7:+7", "-0:00", " 1 ", "1 :2", "1: 2", "1:2 :",
+            "12:30:", "::", "+", "-", "5:-", "007:0030", "24", "23:60", "", "\t12:00\n"};
+        for (String input : inputs) {
+            int result = parser.parseMinuteOfDay(input);
+            Time expected = parseOrNull(input);
+            if (expected == null) {
+                assertFalse(ParseResult.isValid(result), "Should reject '" + input + "'");
+            } else {
+                assertEquals(expected.getHours() * 60 + expected.getMinutes(), result, "Should accept '" + input + "'");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to Integer.parseInt semantics for non-ASCII digits")
+    public void testParseNonAsciiDigits() {
+        String arabicIndic = "\u0661\u0664:\u0663\u0660"; // 14:30
+        assertFalse(ParseResult.isValid(parser.parseMinuteOfDay(arabicIndic)));
+        assertEquals(new Time(14, 30), parser.parse(arabicIndic));
+    }
+
+    @Test
+    @DisplayName("Should return cached Time instances")
+    public void testParseReturnsCachedInstances() {
+        assertSame(parser.parse("14:30"), parser.parse(" 14:30 "));
+        assertSame(Time.of(9, 0), parser.parse("9"));
+    }
+
+    @Test
+    @DisplayName("Should recognise every supported notation in a single pass")
+    public void testParseNotation() {
+        assertNotation(TimeNotation.COLON, 450, "7:30");
+        assertNotation(TimeNotation.COLON, 450, " 07:30 ");
+        assertNotation(TimeNotation.COMPACT, 450, "0730");
+        assertNotation(TimeNotation.DOT, 450, "7.30");
+        assertNotation(TimeNotation.HOUR_LETTER, 450, "7h30");
+        assertNotation(TimeNotation.HOUR_LETTER, 1410, "23H30");
+        assertNotation(TimeNotation.WITH_SECONDS, 450, "07:30:15");
+        assertNotation(TimeNotation.ISO_8601, 450, "T07:30:00Z");
+        assertNotation(TimeNotation.TWELVE_HOUR, 1170, "7:30pm");
+        assertNotation(TimeNotation.TWELVE_HOUR, 1170, "7:30 PM");
+        assertNotation(TimeNotation.TWELVE_HOUR, 0, "12:00am");
+        assertNotation(TimeNotation.TWELVE_HOUR, 735, "12:15pm");
+    }
+
+    @Test
+    @DisplayName("Should report range and notation errors from parseNotation")
+    public void testParseNotationErrors() {
+        assertError(ParseResult.EMPTY, 0, parser.parseNotation(null));
+        assertError(ParseResult.EMPTY, 0, parser.parseNotation("   "));
+        assertError(ParseResult.UNKNOWN_NOTATION, 1, parser.parseNotation("7-30"));
+        assertError(ParseResult.UNKNOWN_NOTATION, 4, parser.parseNotation("07300"));
+        assertError(ParseResult.UNKNOWN_NOTATION, 6, parser.parseNotation("7:30 p"));
+        assertError(ParseResult.HOURS_OUT_OF_RANGE, 0, parser.parseNotation("2430"));
+        assertError(ParseResult.HOURS_OUT_OF_RANGE, 0, parser.parseNotation("13:00pm"));
+        assertError(ParseResult.HOURS_OUT_OF_RANGE, 0, parser.parseNotation("0:30am"));
+        assertError(ParseResult.MINUTES_OUT_OF_RANGE, 2, parser.parseNotation("7h60"));
+        assertError(ParseResult.SECONDS_OUT_OF_RANGE, 7, parser.parseNotation("T07:30:60Z"));
+    }
+
+    @Test
+    @DisplayName("parseNotation should give the same result for chars and bytes")
+    public void testParseNotationBytes() {
+        String line = "> 7:30 pm <";
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        int expected = parser.parseNotation(line, 2, 9);
+        assertEquals(1170, ParseResult.minuteOfDay(expected));
+        assertEquals(expected, parser.parseNotation(bytes, 2, 7));
+    }
+
+    @Test
+    @DisplayName("parseNotation should agree with parse(String) on the colon notation")
+    public void testParseNotationAgreesWithParse() {
+        for (int hours = 0; hours < 24; hours++) {
+            for (int minutes = 0; minutes < 60; minutes++) {
+                String input = hours + ":" + String.format("%02d", minutes);
+                int result = parser.parseNotation(input);
+                assertEquals(TimeNotation.COLON, TimeNotation.fromResult(result), input);
+                assertEquals(parser.parse(input), new Time(ParseResult.hours(result), ParseResult.minutes(result)));
+            }
+        }
+    }
+
+    private Time parseOrNull(String input) {
+        try {
+            return parser.parse(input);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void assertNotation(TimeNotation expectedNotation, int expectedMinuteOfDay, String input) {
+        int result = parser.parseNotation(input);
+        assertTrue(ParseResult.isValid(result), input);
+        assertEquals(expectedMinuteOfDay, ParseResult.minuteOfDay(result), input);
+        assertEquals(expectedNotation, TimeNotation.fromResult(result), input);
+    }
+
+    private static void assertError(int expectedCode, int expectedOffset, int result) {
+        assertFalse(ParseResult.isValid(result));
+        assertEquals(expectedCode, ParseResult.errorCode(result));
+        assertEquals(expectedOffset, ParseResult.errorOffset(result));
+    }
+}
@@ -0,0 +1,64 @@
+package com.abd.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VectorBatchTimeParser Tests")
+class VectorBatchTimeParserTest {
+
+    private final TimeParser parser = new TimeParser();
+    private final ScalarBatchTimeParser scalar = new ScalarBatchTimeParser(parser);
+    private final VectorBatchTimeParser vector = new VectorBatchTimeParser(parser);
+
+    @Test
+    @DisplayName("Factory should pick the vector implementation in the vector profile")
+    void testFactoryPicksVector() {
+        assertInstanceOf(VectorBatchTimeParser.class, BatchTimeParser.create(parser));
+    }
+
+    @Test
+    @DisplayName("Should match the scalar parser on canonical records")
+    void testCanonicalRecords() {
+        StringBuilder text = new StringBuilder();
+        for (int minuteOfDay = 0; minuteOfDay < 1440; minuteOfDay++) {
+            text.append(minuteOfDay / 60).append(':').append(String.format("%02d", minuteOfDay % 60)).append('\n');
+        }
+        assertSameAsScalar(text.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Should match the scalar parser on random valid and invalid records")
+    void testRandomRecords() {
+        String alphabet = "0123456789::::  \r+-x\n\n\n";
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            byte[] input = new byte[random.nextInt(400)];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = (byte) alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            assertSameAsScalar(input);
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle records longer than one vector")
+    void testLongRecords() {
+        String longRecord = " ".repeat(200) + "12:30" + " ".repeat(100);
+        assertSameAsScalar((longRecord + "\n01:00\n" + longRecord).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void assertSameAsScalar(byte[] input) {
+        int records = BatchTimeParser.countRecords(input, 0, input.length);
+        int[] expected = new int[records];
+        int[] actual = new int[records];
+
+        assertEquals(scalar.parseLines(input, 0, input.length, expected),
+            vector.parseLines(input, 0, input.length, actual));
+        assertArrayEquals(expected, actual);
+    }
+}